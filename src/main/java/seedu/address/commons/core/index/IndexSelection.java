@@ -0,0 +1,151 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a selection of items in a displayed list: ranges of {@code Index}es, or every item in the list.
+ * Ranges are kept as given rather than expanded, so a selection such as {@code 1-500} takes constant space.
+ */
+public class IndexSelection {
+
+    private static final IndexSelection ALL = new IndexSelection(null, null);
+
+    // Zero-based first and last index of each range, in the order given, or null if every item is selected.
+    private final int[] starts;
+    private final int[] ends;
+
+    private IndexSelection(int[] starts, int[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /**
+     * Returns a selection of every item in the list.
+     */
+    public static IndexSelection all() {
+        return ALL;
+    }
+
+    /**
+     * Returns a selection of the single item at {@code index}.
+     */
+    public static IndexSelection of(Index index) {
+        requireNonNull(index);
+        return range(index, index);
+    }
+
+    /**
+     * Returns a selection of the items from {@code first} to {@code last} inclusive.
+     * {@code first} must not come after {@code last}.
+     */
+    public static IndexSelection range(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        assert first.getZeroBased() <= last.getZeroBased();
+        return new IndexSelection(new int[] {first.getZeroBased()}, new int[] {last.getZeroBased()});
+    }
+
+    /**
+     * Returns a selection of the items selected by any of {@code selections}, none of which may select every item.
+     */
+    public static IndexSelection union(List<IndexSelection> selections) {
+        requireNonNull(selections);
+        int rangeCount = 0;
+        for (IndexSelection selection : selections) {
+            assert !selection.isAll();
+            rangeCount += selection.starts.length;
+        }
+        int[] starts = new int[rangeCount];
+        int[] ends = new int[rangeCount];
+        int position = 0;
+        for (IndexSelection selection : selections) {
+            for (int i = 0; i < selection.starts.length; i++) {
+                assert selection.starts[i] <= selection.ends[i];
+                starts[position] = selection.starts[i];
+                ends[position] = selection.ends[i];
+                position++;
+            }
+        }
+        return new IndexSelection(starts, ends);
+    }
+
+    /**
+     * Returns true if every item in the list is selected.
+     */
+    public boolean isAll() {
+        return starts == null;
+    }
+
+    /**
+     * Returns true if every selected index is within a list of {@code size} items.
+     */
+    public boolean isWithin(int size) {
+        if (isAll()) {
+            return true;
+        }
+        return Arrays.stream(ends).allMatch(end -> end < size);
+    }
+
+    /**
+     * Returns the selected items of {@code items}, in the order they were selected, each item at most once.
+     * Every selected index must be within {@code items}.
+     */
+    public <T> List<T> select(List<T> items) {
+        requireNonNull(items);
+        assert isWithin(items.size());
+        if (isAll()) {
+            return new ArrayList<>(items);
+        }
+
+        List<T> selected = new ArrayList<>();
+        BitSet isSelected = new BitSet(items.size());
+        for (int i = 0; i < starts.length; i++) {
+            for (int index = starts[i]; index <= ends[i]; index++) {
+                if (!isSelected.get(index)) {
+                    isSelected.set(index);
+                    selected.add(items.get(index));
+                }
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexSelection)) {
+            return false;
+        }
+
+        IndexSelection otherSelection = (IndexSelection) other;
+        return Arrays.equals(starts, otherSelection.starts)
+                && Arrays.equals(ends, otherSelection.ends);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(starts) + Arrays.hashCode(ends);
+    }
+
+    @Override
+    public String toString() {
+        if (isAll()) {
+            return new ToStringBuilder(this).add("all", true).toString();
+        }
+        return new ToStringBuilder(this)
+                .add("starts", Arrays.toString(starts))
+                .add("ends", Arrays.toString(ends))
+                .toString();
+    }
+}
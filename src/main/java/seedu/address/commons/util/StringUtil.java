@@ -38,6 +38,45 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code s} with every character case-folded the same way {@link String#equalsIgnoreCase(String)}
+     * compares characters, so that two strings are equal ignoring case exactly when their folded forms are equal.
+     * @param s cannot be null
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        char[] folded = new char[s.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code \p{Alnum}} in a regular expression.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Returns true if {@code s} is not empty and is made up only of ASCII letters and digits, as matched by
+     * {@code \p{Alnum}+} in a regular expression, without compiling a pattern.
+     * @param s cannot be null
+     */
+    public static boolean isAlphanumeric(String s) {
+        requireNonNull(s);
+        if (s.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (!isAlphanumeric(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -9,6 +11,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagRegistry;
 
 /**
  * API of the Logic component
@@ -23,6 +26,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Saves the changes to the address book not saved yet, and waits for them to be saved.
+     * Changes are otherwise saved in the background some time after the command making them.
+     * @throws CommandException If the changes could not be saved.
+     */
+    void flush() throws CommandException;
+
+    /**
+     * Sets {@code handler} to be given the error message of each failed save in the background.
+     * The handler is called on the thread saving in the background.
+     */
+    void setSaveErrorHandler(Consumer<String> handler);
+
     /**
      * Returns the AddressBook.
      *
@@ -30,9 +46,22 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the registry of the tags of the persons in the AddressBook, which renames them.
+     *
+     * @see seedu.address.model.Model#getTagRegistry()
+     */
+    TagRegistry getTagRegistry();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the full names of a few of the persons in the address book with a name word starting with
+     * {@code prefix}, ignoring case, in alphabetical order.
+     */
+    List<String> getNameSuggestions(String prefix);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -1,9 +1,15 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -15,7 +21,10 @@ import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagRegistry;
+import seedu.address.storage.AddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -27,18 +36,34 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** How long changes to the address book may wait to be saved, so that bursts of commands are saved at once. */
+    public static final long SAVE_DELAY_MILLIS = 500;
+
+    /** The most names suggested for a prefix, so that a short prefix does not gather the whole address book. */
+    public static final int MAX_NAME_SUGGESTIONS = 10;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final AddressBookSaver saver;
     private final AddressBookParser addressBookParser;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, SAVE_DELAY_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, saving changes to the
+     * address book in the background at most {@code saveDelayMillis} after they are made.
+     */
+    public LogicManager(Model model, Storage storage, long saveDelayMillis) {
         this.model = model;
         this.storage = storage;
+        this.saver = new AddressBookSaver(storage, saveDelayMillis);
         addressBookParser = new AddressBookParser();
     }
 
@@ -50,27 +75,77 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        // the snapshot keeps the persons and tag names as they are now, so it is written while later commands run
+        saver.submit(model.getAddressBookSnapshot());
+        if (commandResult.isExit()) {
+            flush();
+        }
+        if (commandResult.getBackupFilePath().isPresent()) {
+            backup(commandResult.getBackupFilePath().get());
         }
 
         return commandResult;
     }
 
+    /**
+     * Saves every pending change, and then writes the whole address book to {@code backupFilePath}.
+     */
+    private void backup(Path backupFilePath) throws CommandException {
+        flush();
+        try {
+            storage.backupAddressBook(model.getAddressBookSnapshot(), backupFilePath);
+        } catch (IOException e) {
+            throw new CommandException(getSaveErrorMessage(e), e);
+        }
+    }
+
+    @Override
+    public void flush() throws CommandException {
+        try {
+            saver.flush();
+        } catch (IOException e) {
+            throw new CommandException(getSaveErrorMessage(e), e);
+        }
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        saver.setFailureHandler(e -> handler.accept(getSaveErrorMessage(e)));
+    }
+
+    private static String getSaveErrorMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public TagRegistry getTagRegistry() {
+        return model.getTagRegistry();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public List<String> getNameSuggestions(String prefix) {
+        requireNonNull(prefix);
+        return model.getPersonsWithNamePrefix(prefix, MAX_NAME_SUGGESTIONS).stream()
+                .map(Person::getName)
+                .sorted(Comparator.comparing(Name::getSortKey))
+                .map(name -> name.fullName)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
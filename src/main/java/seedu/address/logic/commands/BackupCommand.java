@@ -1,17 +1,15 @@
 package seedu.address.logic.commands;
 
-import static java.nio.file.Files.copy;
+import static java.util.Objects.requireNonNull;
 
-import java.io.IOException;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 
-import seedu.address.commons.util.FileUtil;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 
 /**
- * Creates a backup of current storage file.
+ * Creates a backup of the current address book data.
+ * The backup is written by the storage once every pending change is saved, so it holds the full address book even
+ * when recent changes are only in the journal.
  */
 public class BackupCommand extends Command {
 
@@ -19,25 +17,11 @@ public class BackupCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Backup successfully stored at ";
 
-    public static final String NO_DATA_FILE = "No data file found to backup. "
-            + "If this is your first time starting the program "
-            + "or you have deleted the data file try another command first.";
-
     @Override
-    public CommandResult execute(Model model) throws CommandException {
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
         Path backupPath = model.getBackupAddressBookFilePath();
-        Path originalPath = model.getAddressBookFilePath();
-        backup(originalPath, backupPath);
-        return new CommandResult(MESSAGE_SUCCESS + backupPath.toString());
-    }
-
-    private void backup(Path originalPath, Path backupPath) throws CommandException {
-        try {
-            FileUtil.createIfMissing(backupPath);
-            copy(originalPath, backupPath, StandardCopyOption.REPLACE_EXISTING);
-        } catch (IOException e) {
-            throw new CommandException(NO_DATA_FILE);
-        }
+        return new CommandResult(MESSAGE_SUCCESS + backupPath.toString(), backupPath);
     }
 
 }
@@ -1,7 +1,12 @@
 package seedu.address.logic.commands;
 
+import java.util.List;
+
+import seedu.address.commons.core.index.IndexSelection;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +22,18 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns the persons in the filtered person list of {@code model} selected by {@code indexes}, resolved before
+     * any of them is changed.
+     *
+     * @throws CommandException if any index is outside the filtered person list, or no person is selected.
+     */
+    protected static List<Person> selectPersons(Model model, IndexSelection indexes) throws CommandException {
+        List<Person> lastShownList = model.getFilteredPersonList();
+        if (!indexes.isWithin(lastShownList.size()) || lastShownList.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+        return indexes.select(lastShownList);
+    }
+
 }
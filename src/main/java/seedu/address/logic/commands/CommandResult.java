@@ -2,7 +2,9 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -19,13 +21,29 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** The address book should be backed up to this file, if any. */
+    private final Path backupFilePath;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
+        this(feedbackToUser, showHelp, exit, null);
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, requesting the address book to be
+     * backed up to {@code backupFilePath}, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, Path backupFilePath) {
+        this(feedbackToUser, false, false, requireNonNull(backupFilePath));
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit, Path backupFilePath) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.backupFilePath = backupFilePath;
     }
 
     /**
@@ -48,6 +66,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<Path> getBackupFilePath() {
+        return Optional.ofNullable(backupFilePath);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -62,12 +84,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(backupFilePath, otherCommandResult.backupFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, backupFilePath);
     }
 
     @Override
@@ -76,6 +99,7 @@ public class CommandResult {
                 .add("feedbackToUser", feedbackToUser)
                 .add("showHelp", showHelp)
                 .add("exit", exit)
+                .add("backupFilePath", backupFilePath)
                 .toString();
     }
 
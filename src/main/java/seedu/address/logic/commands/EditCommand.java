@@ -16,10 +16,12 @@ import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.model.Model;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -31,16 +33,17 @@ import seedu.address.model.person.SocialMedia;
 import seedu.address.model.tag.Tag;
 
 /**
- * Edits the details of an existing person in the address book.
+ * Edits the details of existing persons in the address book.
  */
 public class EditCommand extends Command {
 
     public static final String COMMAND_WORD = "edit";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the person identified "
-            + "by the index number used in the displayed person list. "
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the persons identified "
+            + "by the index numbers used in the displayed person list. "
             + "Existing values will be overwritten by the input values.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEXES (positive integers or ranges separated by commas, or "
+            + ParserUtil.SELECT_ALL_KEYWORD + " for every displayed person) "
             + "[" + PREFIX_NAME + "NAME] "
             + "[" + PREFIX_PHONE + "PHONE] "
             + "[" + PREFIX_EMAIL + "EMAIL] "
@@ -51,10 +54,13 @@ public class EditCommand extends Command {
             + PREFIX_EMAIL + "johndoe@example.com";
 
     public static final String MESSAGE_EDIT_PERSON_SUCCESS = "Edited Person: %1$s";
+    public static final String MESSAGE_EDIT_PERSONS_SUCCESS = "Edited %1$d persons";
+    public static final String MESSAGE_NAME_OF_MANY_PERSONS =
+            "The name can only be edited for one person at a time, as names must be unique.";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the address book.";
 
-    private final Index index;
+    private final IndexSelection indexes;
     private final EditPersonDescriptor editPersonDescriptor;
 
     /**
@@ -62,32 +68,49 @@ public class EditCommand extends Command {
      * @param editPersonDescriptor details to edit the person with
      */
     public EditCommand(Index index, EditPersonDescriptor editPersonDescriptor) {
-        requireNonNull(index);
+        this(IndexSelection.of(index), editPersonDescriptor);
+    }
+
+    /**
+     * @param indexes of the persons in the filtered person list to edit
+     * @param editPersonDescriptor details to edit the persons with
+     */
+    public EditCommand(IndexSelection indexes, EditPersonDescriptor editPersonDescriptor) {
+        requireNonNull(indexes);
         requireNonNull(editPersonDescriptor);
 
-        this.index = index;
+        this.indexes = indexes;
         this.editPersonDescriptor = new EditPersonDescriptor(editPersonDescriptor);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
+        List<Person> personsToEdit = selectPersons(model, indexes);
 
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
+        if (personsToEdit.size() == 1) {
+            Person personToEdit = personsToEdit.get(0);
+            Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
 
-        Person personToEdit = lastShownList.get(index.getZeroBased());
-        Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
+            if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
+                throw new CommandException(MESSAGE_DUPLICATE_PERSON);
+            }
 
-        if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
-            throw new CommandException(MESSAGE_DUPLICATE_PERSON);
+            model.setPerson(personToEdit, editedPerson);
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
         }
 
-        model.setPerson(personToEdit, editedPerson);
+        if (editPersonDescriptor.getName().isPresent()) {
+            throw new CommandException(MESSAGE_NAME_OF_MANY_PERSONS);
+        }
+        model.batch(batch -> {
+            for (Person personToEdit : personsToEdit) {
+                batch.setPerson(personToEdit, createEditedPerson(personToEdit, editPersonDescriptor));
+            }
+        });
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
+        return new CommandResult(String.format(MESSAGE_EDIT_PERSONS_SUCCESS, personsToEdit.size()));
     }
 
     /**
@@ -121,14 +144,14 @@ public class EditCommand extends Command {
         }
 
         EditCommand otherEditCommand = (EditCommand) other;
-        return index.equals(otherEditCommand.index)
+        return indexes.equals(otherEditCommand.indexes)
                 && editPersonDescriptor.equals(otherEditCommand.editPersonDescriptor);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("indexes", indexes)
                 .add("editPersonDescriptor", editPersonDescriptor)
                 .toString();
     }
@@ -9,6 +9,7 @@ import java.util.stream.Collectors;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -46,13 +47,13 @@ public class FilterCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        model.updateFilteredPersonList(person ->
-                tags.size() <= person.getTags().size()
-                        && person.hasAllTags(tags)
-        );
+        Set<Person> personsWithAllTags = model.getPersonsWithAllTags(tags);
+        model.updateFilteredPersonList(personsWithAllTags::contains);
 
+        // sorted, as the hash order of tags depends on the order their names were registered
         String filteredTags = tags.stream()
                 .map(Tag::getTagName)
+                .sorted()
                 .collect(Collectors.joining(", "));
         //if no contacts matches the tag
         if (model.getFilteredPersonList().isEmpty()) {
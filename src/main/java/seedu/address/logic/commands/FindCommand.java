@@ -2,14 +2,18 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * Matches are looked up from the model's name index rather than by testing {@code predicate} against every person.
  */
 public class FindCommand extends Command {
 
@@ -29,7 +33,8 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Set<Person> matchingPersons = model.getPersonsWithAnyNameKeyword(predicate.getKeywords());
+        model.updateFilteredPersonList(matchingPersons::contains);
         if (model.getFilteredPersonList().isEmpty()) {
             return new CommandResult(Messages.MESSAGE_NO_PERSONS_FOUND);
         }
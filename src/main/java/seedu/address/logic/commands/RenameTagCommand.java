@@ -1,21 +1,18 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NEWTAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_OLDTAG;
-import static seedu.address.model.Model.PREDICATE_DO_NOT_SHOW_ALL_PERSONS;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.Iterator;
 import java.util.Set;
 
-import javafx.collections.ObservableList;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 
 /**
  * Edits the name of a tag for all contacts with that tag.
+ * Contacts that already have a tag with the new name keep the old tag unchanged.
  */
 public class RenameTagCommand extends Command {
 
@@ -49,33 +46,17 @@ public class RenameTagCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        ObservableList<Person> persons = model.getFilteredPersonList();
-        boolean found = false;
-        boolean duplicates = false;
-        for (int i = 0; i < persons.size(); i++) {
-            Person currPerson = persons.get(i);
-            Set<Tag> tags = currPerson.getTags();
-            Iterator<Tag> iterator = tags.iterator();
-            while (iterator.hasNext()) {
-                Tag tag = iterator.next();
-                if (tag.getTagName().equals(oldTag)) {
-                    if (currPerson.hasTag(newTag)) {
-                        found = true;
-                        duplicates = true;
-                        continue;
-                    }
-                    tag.updateTagName(newTag);
-                    found = true;
-                }
-            }
+        requireNonNull(model);
+        if (!Tag.isValidTagName(oldTag)) {
+            throw new CommandException(String.format(MESSAGE_TAG_NOT_FOUND, oldTag));
         }
-        model.updateFilteredPersonList(PREDICATE_DO_NOT_SHOW_ALL_PERSONS);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
-        if (!found) {
+        Tag target = new Tag(oldTag);
+        if (model.getPersonsWithAllTags(Set.of(target)).isEmpty()) {
             throw new CommandException(String.format(MESSAGE_TAG_NOT_FOUND, oldTag));
         }
-        if (duplicates) {
+
+        int unchangedCount = model.renameTag(target, newTag);
+        if (unchangedCount > 0) {
             return new CommandResult(String.format(MESSAGE_RENAME_TAG_SUCCESS, newTag)
                     + String.format(MESSAGE_DUPLICATES, newTag));
         } else {
@@ -6,6 +6,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -14,10 +15,11 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.model.Model;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -29,23 +31,25 @@ import seedu.address.model.person.SocialMedia;
 import seedu.address.model.tag.Tag;
 
 /**
- * Overwrites the details of an existing person's schedule in the address book.
+ * Overwrites the details of the schedules of existing persons in the address book.
  */
 public class ScheduleCommand extends Command {
 
     public static final String COMMAND_WORD = "schedule";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Schedules an event for the provided contact.\n"
+            + ": Schedules an event for the provided contacts.\n"
             + "The name of the schedule, if provided, must be alphanumeric.\n"
             + "If no date is provided, the existing schedule will be removed.\n"
             + "If a date is provided, it must be of the format yyyy-MM-dd.\n"
             + "If a time is provided, it must be of the format HH:mm.\n"
-            + "Parameters: INDEX, SCHEDULE_NAME, DATE, TIME.\n"
+            + "Parameters: INDEXES (positive integers or ranges separated by commas, or "
+            + ParserUtil.SELECT_ALL_KEYWORD + " for every displayed person), SCHEDULE_NAME, DATE, TIME.\n"
             + "Example: " + COMMAND_WORD + " 1 sn/appointment sd/2024-10-21 st/16:00";
 
     public static final String MESSAGE_MAKE_SCHEDULE_SUCCESS = "Scheduled an event for %s: %s";
     public static final String MESSAGE_CLEAR_SCHEDULE_SUCCESS = "Cleared scheduled for %s";
+    public static final String MESSAGE_UPDATE_SCHEDULES_SUCCESS = "Updated the schedules of %d persons";
     public static final String MESSAGE_FAILURE =
             String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE);
     public static final String MESSAGE_SCHEDULE_UNCHANGED =
@@ -53,7 +57,7 @@ public class ScheduleCommand extends Command {
 
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
-    private final Index index;
+    private final IndexSelection indexes;
     private final ScheduleCommand.ScheduleDescriptor scheduleDescriptor;
 
     /**
@@ -61,35 +65,42 @@ public class ScheduleCommand extends Command {
      * @param scheduleDescriptor details to edit the person with
      */
     public ScheduleCommand(Index index, ScheduleDescriptor scheduleDescriptor) {
-        requireNonNull(index);
+        this(IndexSelection.of(index), scheduleDescriptor);
+    }
+
+    /**
+     * @param indexes of the persons in the filtered person list to edit
+     * @param scheduleDescriptor details to edit the schedules of the persons with
+     */
+    public ScheduleCommand(IndexSelection indexes, ScheduleDescriptor scheduleDescriptor) {
+        requireNonNull(indexes);
         requireNonNull(scheduleDescriptor);
 
-        this.index = index;
+        this.indexes = indexes;
         this.scheduleDescriptor = new ScheduleCommand.ScheduleDescriptor(scheduleDescriptor);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        List<Person> personsToEdit = selectPersons(model, indexes);
+        if (personsToEdit.size() > 1) {
+            return executeForMany(model, personsToEdit);
         }
 
-        Person personToEdit = lastShownList.get(index.getZeroBased());
+        Person personToEdit = personsToEdit.get(0);
         Schedule scheduleToEdit = personToEdit.getSchedule();
         Schedule editedSchedule = createEditedSchedule(scheduleToEdit, scheduleDescriptor);
-        Person editedPerson = createPersonWithEditedSchedule(personToEdit, editedSchedule);
-
-        model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
+        // checked before the person is replaced, so that an unchanged schedule leaves no trace in the model
         if (editedSchedule.equals(scheduleToEdit)) {
             logger.fine(MESSAGE_SCHEDULE_UNCHANGED);
             throw new CommandException(MESSAGE_SCHEDULE_UNCHANGED);
         }
 
+        Person editedPerson = createPersonWithEditedSchedule(personToEdit, editedSchedule);
+        model.setPerson(personToEdit, editedPerson);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
         if (editedSchedule.toString().isEmpty()) {
             return new CommandResult(String.format(
                     MESSAGE_CLEAR_SCHEDULE_SUCCESS,
@@ -103,6 +114,33 @@ public class ScheduleCommand extends Command {
         }
     }
 
+    /**
+     * Edits the schedules of {@code personsToEdit} in a single batch, leaving out persons whose schedule is unchanged.
+     */
+    private CommandResult executeForMany(Model model, List<Person> personsToEdit) throws CommandException {
+        List<Person> targets = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        for (Person personToEdit : personsToEdit) {
+            Schedule editedSchedule = createEditedSchedule(personToEdit.getSchedule(), scheduleDescriptor);
+            if (!editedSchedule.equals(personToEdit.getSchedule())) {
+                targets.add(personToEdit);
+                editedPersons.add(createPersonWithEditedSchedule(personToEdit, editedSchedule));
+            }
+        }
+        if (targets.isEmpty()) {
+            logger.fine(MESSAGE_SCHEDULE_UNCHANGED);
+            throw new CommandException(MESSAGE_SCHEDULE_UNCHANGED);
+        }
+
+        model.batch(batch -> {
+            for (int i = 0; i < targets.size(); i++) {
+                batch.setPerson(targets.get(i), editedPersons.get(i));
+            }
+        });
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_UPDATE_SCHEDULES_SUCCESS, targets.size()));
+    }
+
     /**
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
      * edited with {@code editPersonDescriptor}.
@@ -155,14 +193,14 @@ public class ScheduleCommand extends Command {
         }
 
         ScheduleCommand otherScheduleCommand = (ScheduleCommand) other;
-        return index.equals(otherScheduleCommand.index)
+        return indexes.equals(otherScheduleCommand.indexes)
                 && scheduleDescriptor.equals(otherScheduleCommand.scheduleDescriptor);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("indexes", indexes)
                 .add("scheduleDescriptor", scheduleDescriptor)
                 .toString();
     }
@@ -5,10 +5,10 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_BEGIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_END;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Schedule;
 /**
  * Searches for schedules within a specified time period.
  */
@@ -44,7 +44,8 @@ public class SearchCommand extends Command {
     }
     /**
      * Executes the search command on the given model.
-     * Filters the person list based on the presence and values of begin and end times.
+     * Filters the person list to the persons whose schedule falls in the requested period,
+     * looked up from the model's schedule index.
      *
      * @param model The model in which the command is executed.
      * @return The result of the command execution.
@@ -52,30 +53,11 @@ public class SearchCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        if (begin == null) {
-            model.updateFilteredPersonList(this::hasScheduleBeforeEnd);
-        } else if (end == null) {
-            model.updateFilteredPersonList(this::hasScheduleAfterBegin);
-        } else {
-            model.updateFilteredPersonList(this::hasScheduleBetweenBeginAndEnd);
-        }
+        Set<Person> personsInPeriod = model.getPersonsScheduledBetween(begin, end);
+        model.updateFilteredPersonList(personsInPeriod::contains);
         return new CommandResult(MESSAGE_SUCCESS);
     }
-    private boolean hasScheduleBeforeEnd(Person person) {
-        Schedule schedule = person.getSchedule();
-        return schedule.getDateTime() != null && !schedule.getDateTime().isAfter(end);
-    }
 
-    private boolean hasScheduleAfterBegin(Person person) {
-        Schedule schedule = person.getSchedule();
-        return schedule.getDateTime() != null && !schedule.getDateTime().isBefore(begin);
-    }
-
-    private boolean hasScheduleBetweenBeginAndEnd(Person person) {
-        Schedule schedule = person.getSchedule();
-        return schedule.getDateTime() != null
-                && !schedule.getDateTime().isBefore(begin) && !schedule.getDateTime().isAfter(end);
-    }
     @Override
     public boolean equals(Object other) {
         if (other == this) {
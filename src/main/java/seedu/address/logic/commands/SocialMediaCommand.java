@@ -65,12 +65,8 @@ public class SocialMediaCommand extends Command {
         }
         Person personToEdit = lastShownList.get(index.getZeroBased());
 
-        Person editedPerson = new Person(
-                personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
-                personToEdit.getAddress(), personToEdit.getSchedule(), personToEdit.getSocialMedia(),
-                personToEdit.getTags());
         SocialMedia socialMediaToAdd = new SocialMedia(handle, platform);
-        editedPerson.setSocialMedia(socialMediaToAdd);
+        Person editedPerson = personToEdit.withSocialMedia(socialMediaToAdd);
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
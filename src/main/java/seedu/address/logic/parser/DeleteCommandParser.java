@@ -2,7 +2,7 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -19,11 +19,12 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
      */
     public DeleteCommand parse(String args) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new DeleteCommand(index);
+            IndexSelection indexes = ParserUtil.parseIndexSelection(args);
+            return new DeleteCommand(indexes);
         } catch (ParseException pe) {
             String message = pe.getMessage();
-            if (message.equals(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX)) {
+            if (message.equals(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX)
+                    || message.equals(ParserUtil.MESSAGE_INVALID_INDEX_RANGE)) {
                 throw pe;
             } else {
                 throw new ParseException(
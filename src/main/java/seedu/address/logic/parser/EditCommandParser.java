@@ -13,7 +13,7 @@ import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
@@ -35,13 +35,14 @@ public class EditCommandParser implements Parser<EditCommand> {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
 
-        Index index;
+        IndexSelection indexes;
 
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            indexes = ParserUtil.parseIndexSelection(argMultimap.getPreamble());
         } catch (ParseException pe) {
             String message = pe.getMessage();
-            if (message.equals(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX)) {
+            if (message.equals(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX)
+                    || message.equals(ParserUtil.MESSAGE_INVALID_INDEX_RANGE)) {
                 throw pe;
             } else {
                 throw new ParseException(
@@ -71,7 +72,7 @@ public class EditCommandParser implements Parser<EditCommand> {
             throw new ParseException(EditCommand.MESSAGE_NOT_EDITED);
         }
 
-        return new EditCommand(index, editPersonDescriptor);
+        return new EditCommand(indexes, editPersonDescriptor);
     }
 
     /**
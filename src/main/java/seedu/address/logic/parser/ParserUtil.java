@@ -4,11 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Messages;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -26,6 +30,11 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE = "Index range must not end before it starts.";
+    public static final String SELECT_ALL_KEYWORD = "all";
+
+    private static final Pattern INDEX_LIST_SEPARATOR = Pattern.compile(",");
+    private static final Pattern INDEX_RANGE_SEPARATOR = Pattern.compile("-");
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -48,6 +57,35 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code selection} into an {@code IndexSelection} and returns it. The selection is either
+     * {@value #SELECT_ALL_KEYWORD}, or a comma-separated list of indexes and ranges of indexes such as {@code 1-500},
+     * each parsed as by {@link #parseIndex(String)}. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if any index is invalid, or any range ends before it starts.
+     */
+    public static IndexSelection parseIndexSelection(String selection) throws ParseException {
+        requireNonNull(selection);
+        String trimmedSelection = selection.trim();
+        if (trimmedSelection.equalsIgnoreCase(SELECT_ALL_KEYWORD)) {
+            return IndexSelection.all();
+        }
+
+        List<IndexSelection> ranges = new ArrayList<>();
+        for (String part : INDEX_LIST_SEPARATOR.split(trimmedSelection, -1)) {
+            String[] bounds = INDEX_RANGE_SEPARATOR.split(part, -1);
+            if (bounds.length > 2) {
+                throw new ParseException(MESSAGE_INVALID_INDEX);
+            }
+            Index first = parseIndex(bounds[0]);
+            Index last = bounds.length == 2 ? parseIndex(bounds[1]) : first;
+            if (last.getZeroBased() < first.getZeroBased()) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+            }
+            ranges.add(IndexSelection.range(first, last));
+        }
+        return IndexSelection.union(ranges);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -6,7 +6,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_TIME;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.ScheduleCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -27,13 +27,14 @@ public class ScheduleCommandParser implements Parser<ScheduleCommand> {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_SCHEDULE_NAME, PREFIX_SCHEDULE_DATE, PREFIX_SCHEDULE_TIME);
 
-        Index index;
+        IndexSelection indexes;
 
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            indexes = ParserUtil.parseIndexSelection(argMultimap.getPreamble());
         } catch (ParseException pe) {
             String message = pe.getMessage();
-            if (message.equals(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX)) {
+            if (message.equals(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX)
+                    || message.equals(ParserUtil.MESSAGE_INVALID_INDEX_RANGE)) {
                 throw pe;
             } else {
                 throw new ParseException(
@@ -69,6 +70,6 @@ public class ScheduleCommandParser implements Parser<ScheduleCommand> {
             scheduleDescriptor.setTimeString(scheduleTime);
         }
 
-        return new ScheduleCommand(index, scheduleDescriptor);
+        return new ScheduleCommand(indexes, scheduleDescriptor);
     }
 }
@@ -1,13 +1,26 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.NameTokenIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.ScheduleIndex;
+import seedu.address.model.person.TagIndex;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 
 /**
  * Wraps all data at the address-book level
@@ -15,10 +28,19 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    // The last version taken by any address book, so that no two address books share a version.
+    private static final AtomicLong LAST_VERSION = new AtomicLong();
+
     private Person lastDeletedPerson;
     private boolean canRestore;
 
+    // Declared before the initialization block below, which indexes tags by their id in the registry.
+    private final TagRegistry tagRegistry = new TagRegistry();
     private final UniquePersonList persons;
+    private final TagIndex tagIndex;
+    private final ScheduleIndex scheduleIndex;
+    private final NameTokenIndex nameTokenIndex;
+    private long version = LAST_VERSION.incrementAndGet();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -29,6 +51,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        tagIndex = new TagIndex(tagRegistry);
+        persons.addIndex(tagIndex);
+        scheduleIndex = new ScheduleIndex();
+        persons.addIndex(scheduleIndex);
+        nameTokenIndex = new NameTokenIndex();
+        persons.addIndex(nameTokenIndex);
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> markChanged());
     }
 
     public AddressBook() {}
@@ -48,7 +77,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        List<Person> adopted = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            adopted.add(adopt(person));
+        }
+        this.persons.setPersons(adopted);
     }
 
     /**
@@ -70,12 +103,144 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the persons in the address book whose name contains any of {@code keywords} as a full word,
+     * ignoring case. The returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsWithAnyNameKeyword(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return nameTokenIndex.getPersonsWithAnyToken(keywords);
+    }
+
+    /**
+     * Returns at most {@code limit} of the persons in the address book whose name contains a word starting with
+     * {@code prefix}, ignoring case, taken in the alphabetical order of that word.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsWithNamePrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return nameTokenIndex.getPersonsWithTokenPrefix(prefix, limit);
+    }
+
+    /**
+     * Returns the persons in the address book that have every tag in {@code tags}, which must not be empty.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsWithAllTags(Set<Tag> tags) {
+        requireNonNull(tags);
+        return tagIndex.getPersonsWithAllTags(tags);
+    }
+
+    /**
+     * Returns the persons in the address book whose schedule falls between {@code begin} and {@code end} inclusive.
+     * A {@code null} bound leaves that end of the range open. Persons without a schedule are never returned.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsScheduledBetween(LocalDateTime begin, LocalDateTime end) {
+        return scheduleIndex.getPersonsScheduledBetween(begin, end);
+    }
+
+    /**
+     * Returns the registry the tags of the persons in the address book belong to.
+     */
+    public TagRegistry getTagRegistry() {
+        return tagRegistry;
+    }
+
+    /**
+     * Returns the tag of the address book with the name of {@code tag}, or null if no tag has been registered under
+     * that name. Unlike {@code tag}, the returned tag follows the renames of the tag in the address book.
+     */
+    Tag findTag(Tag tag) {
+        requireNonNull(tag);
+        int id = tagRegistry.findId(tag);
+        return id >= 0 ? tagRegistry.getTag(id) : null;
+    }
+
+    /**
+     * Returns true if some person in the address book has a tag named {@code tagName}.
+     * Unlike {@link TagRegistry#findId(String)}, this is false for names no longer, or never, held by anyone.
+     */
+    public boolean isTagInUse(String tagName) {
+        requireNonNull(tagName);
+        int id = tagRegistry.findId(tagName);
+        return id >= 0 && tagIndex.count(tagRegistry.getTag(id)) > 0;
+    }
+
+    /**
+     * Renames {@code target} to {@code newName} for every person in the address book that has {@code target}.
+     * If no person has a tag named {@code newName}, the tag is renamed once in the {@link TagRegistry}. Otherwise,
+     * {@code target} is replaced with the tag named {@code newName} in every person that does not have both.
+     *
+     * @return the number of persons left unchanged because they already have a tag named {@code newName}.
+     */
+    public int renameTag(Tag target, String newName) {
+        requireAllNonNull(target, newName);
+        int id = tagRegistry.findId(target);
+        if (id < 0) {
+            // no person has ever had the tag
+            return 0;
+        }
+        if (!isTagInUse(newName)) {
+            tagRegistry.rename(id, newName);
+            markChanged();
+            return 0;
+        }
+
+        Tag current = tagRegistry.getTag(id);
+        Tag replacement = tagRegistry.getTag(tagRegistry.findId(newName));
+        List<Person> holdersToRetag = new ArrayList<>();
+        int unchangedCount = 0;
+        for (Person holder : tagIndex.getPersonsWithAllTags(Set.of(current))) {
+            if (holder.getTags().contains(replacement)) {
+                unchangedCount++;
+            } else {
+                holdersToRetag.add(holder);
+            }
+        }
+        persons.batch(() -> {
+            for (Person holder : holdersToRetag) {
+                Set<Tag> tags = new HashSet<>(holder.getTags());
+                tags.remove(current);
+                tags.add(replacement);
+                persons.setPerson(holder, new Person(holder.getName(), holder.getPhone(), holder.getEmail(),
+                        holder.getAddress(), holder.getSchedule(), holder.getSocialMedia(), tags));
+            }
+        });
+        return unchangedCount;
+    }
+
+    /**
+     * Makes the changes in {@code changes} to the address book as a batch, which observers of the person list see as
+     * a single change once all the changes are made. During the batch, {@link #hasPerson} and {@link #indexOfPerson}
+     * already reflect its changes, but the other lookups and {@link #snapshot()} only do once it ends.
+     * If {@code changes} throws an exception, the address book is left as it was before the batch.
+     */
+    public void batch(Runnable changes) {
+        persons.batch(changes);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        persons.add(adopt(p));
+    }
+
+    /**
+     * Adds a person to the address book at position {@code index} of the person list, unless the list is sorted.
+     * The person must not already exist in the address book.
+     */
+    void addPerson(int index, Person p) {
+        persons.add(index, adopt(p));
+    }
+
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if it is not in the address book.
+     */
+    int indexOfPerson(Person person) {
+        return persons.indexOf(person);
     }
 
     /**
@@ -108,7 +273,23 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        persons.setPerson(target, adopt(editedPerson));
+    }
+
+    /**
+     * Returns {@code person} with its tags in the registry of the address book, registering their names under their
+     * ids there again in case renames have taken them over since the person was last in the address book.
+     */
+    private Person adopt(Person person) {
+        Person adopted = person.withTagRegistry(tagRegistry);
+        claimTags(adopted);
+        return adopted;
+    }
+
+    private void claimTags(Person person) {
+        for (Tag tag : person.getTags()) {
+            tagRegistry.claim(tag.getId());
+        }
     }
 
     /**
@@ -119,6 +300,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Removes every person in {@code keys} from this {@code AddressBook} at once.
+     * Every person must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+    }
+
     /**
      * Sorts persons in the address book by their names alphabetically.
      */
@@ -126,6 +315,34 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.sortPersons(order, toSortBySchedule);
     }
 
+    /**
+     * Returns an immutable snapshot of the persons currently in the address book, which later changes to it do not
+     * affect. The snapshot shares its structure with the address book, so this takes O(1) time.
+     */
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(persons.snapshot(), persons.getSortMode(), version, tagRegistry,
+                tagRegistry.getNames());
+    }
+
+    /**
+     * Replaces the persons in the address book with those in {@code snapshot}, and keeps them in the order the
+     * address book was kept in when the snapshot was taken.
+     */
+    void restore(AddressBookSnapshot snapshot) {
+        requireNonNull(snapshot);
+        persons.restore(snapshot.getPersons(), snapshot.getSortMode());
+        snapshot.getPersons().asList().forEach(this::claimTags);
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    private void markChanged() {
+        version = LAST_VERSION.incrementAndGet();
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,103 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonVector;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
+
+/**
+ * An immutable version of an address book, as it was when the snapshot was taken.
+ * Snapshots share their structure with the address book they were taken from, so taking and keeping one costs
+ * O(1) time and space, and they can be read while the address book keeps changing.
+ * The names of the tags are kept as they were too, so that a snapshot can be written while tags are renamed. The
+ * tags of its persons still show the names they are currently displayed with, but {@link #getTagName} does not.
+ *
+ * @see AddressBook#snapshot()
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersonVector persons;
+    private final String sortMode;
+    private final long version;
+    private final TagRegistry tagRegistry;
+    private final List<String> tagNames;
+    private final ObservableList<Person> personList;
+
+    AddressBookSnapshot(PersonVector persons, String sortMode, long version, TagRegistry tagRegistry,
+            List<String> tagNames) {
+        requireAllNonNull(persons, tagRegistry, tagNames);
+        this.persons = persons;
+        this.sortMode = sortMode;
+        this.version = version;
+        this.tagRegistry = tagRegistry;
+        this.tagNames = tagNames;
+        this.personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.asList()));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    /**
+     * Returns the version of the address book when the snapshot was taken.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the name {@code tag} had when the snapshot was taken, if it is a tag of the address book the snapshot
+     * was taken from, or the name it is currently displayed with otherwise.
+     */
+    @Override
+    public String getTagName(Tag tag) {
+        return tag.getRegistry() == tagRegistry ? tagNames.get(tag.getId()) : tag.getTagName();
+    }
+
+    PersonVector getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the order the address book was kept in, or null if it was kept in the order persons were added.
+     */
+    String getSortMode() {
+        return sortMode;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
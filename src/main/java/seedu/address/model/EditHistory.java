@@ -0,0 +1,303 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
+
+/**
+ * A bounded history of the changes made to an address book, kept as the edits that reverse them.
+ * Steps are held in a ring buffer, oldest first: the first {@link #getUndoableCount()} steps undo changes, and the
+ * rest redo changes that were undone. Undoing or redoing a step applies its edit and keeps the edit that reverses it
+ * in its place. Recording a new change discards the steps that could be redone.
+ *
+ * Edits to single persons keep only the persons involved, and changes to many persons at once keep a snapshot that
+ * shares its structure with the address book, so no step holds a copy of the address book. The oldest steps are
+ * dropped once there are more than the maximum number of steps, or their estimated size exceeds the maximum.
+ */
+class EditHistory {
+
+    static final int DEFAULT_MAX_STEPS = 100;
+    static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    // Rough sizes of the objects held by a step, used to estimate the memory used by the history.
+    private static final long STEP_BYTES = 32;
+    private static final long PERSON_BYTES = 256;
+    private static final long SNAPSHOT_NODE_BYTES = 40;
+
+    private static final Logger logger = LogsCenter.getLogger(EditHistory.class);
+
+    private final Edit[] steps;
+    private final long maxBytes;
+    private int oldest;
+    private int count;
+    private int undoableCount;
+    private long estimatedBytes;
+
+    EditHistory() {
+        this(DEFAULT_MAX_STEPS, DEFAULT_MAX_BYTES);
+    }
+
+    EditHistory(int maxSteps, long maxBytes) {
+        assert maxSteps > 0 && maxBytes > 0;
+        this.steps = new Edit[maxSteps];
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Records a change that {@code inverse} reverses, discarding the steps that could be redone.
+     */
+    void record(Edit inverse) {
+        requireNonNull(inverse);
+        while (count > undoableCount) {
+            estimatedBytes -= stepAt(count - 1).estimateBytes();
+            setStepAt(count - 1, null);
+            count--;
+        }
+        if (count == steps.length) {
+            dropOldest();
+        }
+        setStepAt(count, inverse);
+        count++;
+        undoableCount++;
+        estimatedBytes += inverse.estimateBytes();
+
+        int droppedCount = 0;
+        while (estimatedBytes > maxBytes && count > 0) {
+            dropOldest();
+            droppedCount++;
+        }
+        if (droppedCount > 0) {
+            logger.info("Dropped " + droppedCount + " oldest undo steps to keep the history under "
+                    + maxBytes + " bytes");
+        }
+    }
+
+    boolean canUndo() {
+        return undoableCount > 0;
+    }
+
+    boolean canRedo() {
+        return count > undoableCount;
+    }
+
+    /**
+     * Undoes the latest change that has not been undone in {@code addressBook}.
+     */
+    void undo(AddressBook addressBook) {
+        assert canUndo();
+        undoableCount--;
+        replaceStepAt(undoableCount, stepAt(undoableCount).applyTo(addressBook));
+    }
+
+    /**
+     * Redoes the earliest change that has been undone in {@code addressBook}.
+     */
+    void redo(AddressBook addressBook) {
+        assert canRedo();
+        replaceStepAt(undoableCount, stepAt(undoableCount).applyTo(addressBook));
+        undoableCount++;
+    }
+
+    int getUndoableCount() {
+        return undoableCount;
+    }
+
+    int getRedoableCount() {
+        return count - undoableCount;
+    }
+
+    long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    long getMaxBytes() {
+        return maxBytes;
+    }
+
+    private void dropOldest() {
+        estimatedBytes -= stepAt(0).estimateBytes();
+        setStepAt(0, null);
+        oldest = (oldest + 1) % steps.length;
+        count--;
+        undoableCount = Math.max(0, undoableCount - 1);
+    }
+
+    private void replaceStepAt(int position, Edit edit) {
+        estimatedBytes += edit.estimateBytes() - stepAt(position).estimateBytes();
+        setStepAt(position, edit);
+    }
+
+    private Edit stepAt(int position) {
+        return steps[(oldest + position) % steps.length];
+    }
+
+    private void setStepAt(int position, Edit edit) {
+        steps[(oldest + position) % steps.length] = edit;
+    }
+
+    /**
+     * A change to an address book that can be applied once.
+     */
+    abstract static class Edit {
+
+        /**
+         * Applies this edit to {@code addressBook}, and returns the edit that reverses it.
+         */
+        abstract Edit applyTo(AddressBook addressBook);
+
+        /**
+         * Returns the estimated number of bytes held only by this edit.
+         */
+        abstract long estimateBytes();
+    }
+
+    /**
+     * Replaces a person with another. A missing person to replace adds the other person at {@code index}, and a
+     * missing replacement removes the person.
+     */
+    static class PersonEdit extends Edit {
+        private final Person current;
+        private final Person replacement;
+        private final int index;
+
+        private PersonEdit(Person current, Person replacement, int index) {
+            assert current != null || replacement != null;
+            this.current = current;
+            this.replacement = replacement;
+            this.index = index;
+        }
+
+        /**
+         * Returns an edit that adds {@code person} at position {@code index} of the person list.
+         */
+        static PersonEdit adding(Person person, int index) {
+            return new PersonEdit(null, person, index);
+        }
+
+        /**
+         * Returns an edit that removes {@code person}.
+         */
+        static PersonEdit removing(Person person) {
+            return new PersonEdit(person, null, -1);
+        }
+
+        /**
+         * Returns an edit that replaces {@code current} with {@code replacement}.
+         */
+        static PersonEdit replacing(Person current, Person replacement) {
+            return new PersonEdit(current, replacement, -1);
+        }
+
+        @Override
+        Edit applyTo(AddressBook addressBook) {
+            if (current == null) {
+                addressBook.addPerson(index, replacement);
+                return removing(replacement);
+            } else if (replacement == null) {
+                int currentIndex = addressBook.indexOfPerson(current);
+                addressBook.removePerson(current);
+                return adding(current, currentIndex);
+            }
+            addressBook.setPerson(current, replacement);
+            return replacing(replacement, current);
+        }
+
+        @Override
+        long estimateBytes() {
+            // the person to replace is still in the address book, so only the replacement is counted
+            return STEP_BYTES + (replacement == null ? 0 : PERSON_BYTES);
+        }
+    }
+
+    /**
+     * Applies several edits in reverse order as a single batch, reversing a batch of changes made in order.
+     */
+    static class CompoundEdit extends Edit {
+        private final List<Edit> edits;
+        private final long estimatedBytes;
+
+        CompoundEdit(List<Edit> edits) {
+            assert !edits.isEmpty();
+            this.edits = edits;
+            this.estimatedBytes = STEP_BYTES + edits.stream().mapToLong(Edit::estimateBytes).sum();
+        }
+
+        @Override
+        Edit applyTo(AddressBook addressBook) {
+            List<Edit> inverses = new ArrayList<>(edits.size());
+            addressBook.batch(() -> {
+                for (int i = edits.size() - 1; i >= 0; i--) {
+                    inverses.add(edits.get(i).applyTo(addressBook));
+                }
+            });
+            return new CompoundEdit(inverses);
+        }
+
+        @Override
+        long estimateBytes() {
+            return estimatedBytes;
+        }
+    }
+
+    /**
+     * Renames a tag in the {@link TagRegistry}. If some person has since been given a tag with the name, {@code tag} is
+     * replaced with that tag in every person that has it instead, which only a snapshot taken before can undo.
+     */
+    static class TagRenameEdit extends Edit {
+        private final Tag tag;
+        private final String name;
+
+        TagRenameEdit(Tag tag, String name) {
+            this.tag = tag;
+            this.name = name;
+        }
+
+        @Override
+        Edit applyTo(AddressBook addressBook) {
+            if (addressBook.isTagInUse(name)) {
+                AddressBookSnapshot before = addressBook.snapshot();
+                addressBook.renameTag(tag, name);
+                return new SnapshotEdit(before);
+            }
+            String currentName = tag.getTagName();
+            addressBook.renameTag(tag, name);
+            return new TagRenameEdit(tag, currentName);
+        }
+
+        @Override
+        long estimateBytes() {
+            return STEP_BYTES + 2L * name.length();
+        }
+    }
+
+    /**
+     * Restores the persons of an address book, and the order they were kept in, from a snapshot.
+     */
+    static class SnapshotEdit extends Edit {
+        private final AddressBookSnapshot snapshot;
+
+        SnapshotEdit(AddressBookSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        Edit applyTo(AddressBook addressBook) {
+            AddressBookSnapshot current = addressBook.snapshot();
+            addressBook.restore(snapshot);
+            return new SnapshotEdit(current);
+        }
+
+        @Override
+        long estimateBytes() {
+            // the snapshot may be the only holder of its persons, as after the address book is cleared
+            return STEP_BYTES + snapshot.getPersons().size() * (SNAPSHOT_NODE_BYTES + PERSON_BYTES);
+        }
+    }
+}
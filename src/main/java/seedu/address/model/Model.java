@@ -1,11 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 
 /**
  * The API of the Model component.
@@ -62,17 +69,66 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /** Returns the registry of the tags of the persons in the AddressBook, which renames them. */
+    TagRegistry getTagRegistry();
+
+    /**
+     * Returns an immutable snapshot of the AddressBook as it is now, which later changes to it do not affect.
+     * Taking a snapshot does not copy the address book.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the persons in the address book whose name contains any of {@code keywords} as a full word,
+     * ignoring case. The returned set compares persons by identity.
+     */
+    Set<Person> getPersonsWithAnyNameKeyword(Collection<String> keywords);
+
+    /**
+     * Returns at most {@code limit} of the persons in the address book whose name contains a word starting with
+     * {@code prefix}, ignoring case, taken in the alphabetical order of that word.
+     * The returned set compares persons by identity.
+     */
+    Set<Person> getPersonsWithNamePrefix(String prefix, int limit);
+
+    /**
+     * Returns the persons in the address book that have all of the given {@code tags}.
+     * {@code tags} must not be empty. The returned set compares persons by identity.
+     */
+    Set<Person> getPersonsWithAllTags(Set<Tag> tags);
+
+    /**
+     * Returns the persons in the address book whose schedule falls between {@code begin} and {@code end} inclusive.
+     * A {@code null} bound leaves that end of the range open, but at least one bound must be given.
+     * The returned set compares persons by identity.
+     */
+    Set<Person> getPersonsScheduledBetween(LocalDateTime begin, LocalDateTime end);
+
+    /**
+     * Renames {@code target} to {@code newName} for every person in the address book that has {@code target}.
+     * Persons that already have a tag named {@code newName} are left unchanged.
+     *
+     * @return the number of persons left unchanged.
+     */
+    int renameTag(Tag target, String newName);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes the given persons at once, which are undone and redone together.
+     * Every person must exist in the address book.
+     */
+    void deletePersons(List<Person> targets);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
@@ -86,6 +142,14 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Makes the changes in {@code changes} to the address book as a batch. The filtered person list is updated once
+     * the batch ends, in a single change, and the whole batch is undone and redone as one change.
+     * If a change in the batch fails, none of the changes in the batch are kept, and the exception is rethrown.
+     * The {@code MutableBatch} given to {@code changes} must not be used after it returns.
+     */
+    void batch(Consumer<MutableBatch> changes);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -100,6 +164,33 @@ public interface Model {
     void makeNotRestorable();
     Person getLastDeletedPerson();
 
+    /**
+     * Returns true if there is a change to the address book that can be undone.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if there is an undone change to the address book that can be redone.
+     */
+    boolean canRedo();
+
+    /**
+     * Undoes the latest change to the address book that has not been undone.
+     * There must be a change that can be undone.
+     */
+    void undo();
+
+    /**
+     * Redoes the earliest change to the address book that has been undone since the last new change.
+     * There must be a change that can be redone.
+     */
+    void redo();
+
+    /**
+     * Returns a description of how many changes can be undone and redone, and the memory the history of changes uses.
+     */
+    String getHistorySummary();
+
     /**
      * Sorts the filter of the filtered person list in alphabetical order
      */
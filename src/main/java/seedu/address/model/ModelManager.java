@@ -4,6 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,6 +21,8 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -19,9 +30,13 @@ import seedu.address.model.person.Person;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    private static final String HISTORY_SUMMARY_FORMAT =
+            "%1$d change(s) can be undone and %2$d redone; the history uses about %3$d KB of its %4$d KB limit.";
+
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final EditHistory history = new EditHistory();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -92,7 +107,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        AddressBookSnapshot before = this.addressBook.snapshot();
         this.addressBook.resetData(addressBook);
+        history.record(new EditHistory.SnapshotEdit(before));
     }
 
     @Override
@@ -100,20 +117,101 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public TagRegistry getTagRegistry() {
+        return addressBook.getTagRegistry();
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Set<Person> getPersonsWithAnyNameKeyword(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getPersonsWithAnyNameKeyword(keywords);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithNamePrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return addressBook.getPersonsWithNamePrefix(prefix, limit);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithAllTags(Set<Tag> tags) {
+        requireNonNull(tags);
+        return addressBook.getPersonsWithAllTags(tags);
+    }
+
+    @Override
+    public Set<Person> getPersonsScheduledBetween(LocalDateTime begin, LocalDateTime end) {
+        return addressBook.getPersonsScheduledBetween(begin, end);
+    }
+
+    @Override
+    public int renameTag(Tag target, String newName) {
+        requireAllNonNull(target, newName);
+        // unlike target, the tag of the address book keeps its id once renamed, which undo renames back
+        Tag tag = addressBook.findTag(target);
+        if (tag == null || newName.equals(tag.getTagName())) {
+            // nothing changes, so there is nothing to undo
+            return 0;
+        }
+        if (addressBook.isTagInUse(newName)) {
+            // the tag is replaced in each of its holders, so they are all restored on undo
+            AddressBookSnapshot before = addressBook.snapshot();
+            int unchangedCount = addressBook.renameTag(tag, newName);
+            history.record(new EditHistory.SnapshotEdit(before));
+            // the holders are new persons now, which the current filter may not match
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            return unchangedCount;
+        }
+        String oldName = tag.getTagName();
+        int unchangedCount = addressBook.renameTag(tag, newName);
+        history.record(new EditHistory.TagRenameEdit(tag, oldName));
+        return unchangedCount;
+    }
+
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        history.record(delete(target));
+    }
+
+    @Override
+    public void deletePersons(List<Person> targets) {
+        requireAllNonNull(targets);
+        // the positions are looked up before any person is removed, while the slots of the list are up to date
+        int[] indexes = new int[targets.size()];
+        Integer[] byPosition = new Integer[targets.size()];
+        for (int i = 0; i < targets.size(); i++) {
+            indexes[i] = addressBook.indexOfPerson(targets.get(i));
+            byPosition[i] = i;
+        }
+        addressBook.removePersons(targets);
+
+        // as if the persons were deleted one at a time from the front, so that they are added back from the back
+        Arrays.sort(byPosition, Comparator.comparingInt(i -> indexes[i]));
+        List<EditHistory.Edit> inverses = new ArrayList<>(targets.size());
+        for (int deleted = 0; deleted < byPosition.length; deleted++) {
+            int i = byPosition[deleted];
+            inverses.add(EditHistory.PersonEdit.adding(targets.get(i), indexes[i] - deleted));
+        }
+        if (!inverses.isEmpty()) {
+            history.record(new EditHistory.CompoundEdit(inverses));
+        }
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
+        history.record(add(person));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -121,7 +219,46 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
+        history.record(set(target, editedPerson));
+    }
+
+    @Override
+    public void batch(Consumer<MutableBatch> changes) {
+        requireNonNull(changes);
+        Batch batch = new Batch();
+        addressBook.batch(() -> changes.accept(batch));
+
+        if (!batch.inverses.isEmpty()) {
+            history.record(new EditHistory.CompoundEdit(batch.inverses));
+        }
+        if (batch.hasAddedPerson) {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
+    }
+
+    /**
+     * Deletes {@code target} from the address book, and returns the edit that adds it back.
+     */
+    private EditHistory.Edit delete(Person target) {
+        int index = addressBook.indexOfPerson(target);
+        addressBook.removePerson(target);
+        return EditHistory.PersonEdit.adding(target, index);
+    }
+
+    /**
+     * Adds {@code person} to the address book, and returns the edit that removes it.
+     */
+    private EditHistory.Edit add(Person person) {
+        addressBook.addPerson(person);
+        return EditHistory.PersonEdit.removing(person);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}, and returns the edit that puts {@code target} back.
+     */
+    private EditHistory.Edit set(Person target, Person editedPerson) {
         addressBook.setPerson(target, editedPerson);
+        return EditHistory.PersonEdit.replacing(editedPerson, target);
     }
 
     @Override
@@ -142,6 +279,38 @@ public class ModelManager implements Model {
         return addressBook.getLastDeletedPerson();
     }
 
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undo() {
+        history.undo(addressBook);
+    }
+
+    @Override
+    public void redo() {
+        history.redo(addressBook);
+    }
+
+    @Override
+    public String getHistorySummary() {
+        return String.format(HISTORY_SUMMARY_FORMAT, history.getUndoableCount(), history.getRedoableCount(),
+                toKilobytes(history.getEstimatedBytes()), toKilobytes(history.getMaxBytes()));
+    }
+
+    private static long toKilobytes(long bytes) {
+        return (bytes + 1023) / 1024;
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -161,7 +330,41 @@ public class ModelManager implements Model {
 
     @Override
     public void sortFilteredPersonList(String order, Boolean toSortBySchedule) {
+        AddressBookSnapshot before = addressBook.snapshot();
         addressBook.sortPersons(order, toSortBySchedule);
+        if (!Objects.equals(before.getSortMode(), addressBook.snapshot().getSortMode())) {
+            history.record(new EditHistory.SnapshotEdit(before));
+        }
+    }
+
+    /**
+     * Makes the changes of a batch to the address book, keeping the edits that reverse them.
+     */
+    private class Batch implements MutableBatch {
+        private final List<EditHistory.Edit> inverses = new ArrayList<>();
+        private boolean hasAddedPerson;
+
+        @Override
+        public boolean hasPerson(Person person) {
+            return ModelManager.this.hasPerson(person);
+        }
+
+        @Override
+        public void addPerson(Person person) {
+            inverses.add(add(person));
+            hasAddedPerson = true;
+        }
+
+        @Override
+        public void setPerson(Person target, Person editedPerson) {
+            requireAllNonNull(target, editedPerson);
+            inverses.add(set(target, editedPerson));
+        }
+
+        @Override
+        public void deletePerson(Person target) {
+            inverses.add(delete(target));
+        }
     }
 
     @Override
@@ -0,0 +1,38 @@
+package seedu.address.model;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The changes that can be made to the address book in a batch.
+ * Each method behaves like the method of the same name in {@link Model}, except that the changes are only shown in
+ * the filtered person list once the batch ends, and are undone together.
+ *
+ * @see Model#batch(java.util.function.Consumer)
+ */
+public interface MutableBatch {
+
+    /**
+     * Returns true if a person with the same identity as {@code person} exists in the address book,
+     * including the changes made so far in the batch.
+     */
+    boolean hasPerson(Person person);
+
+    /**
+     * Adds the given person.
+     * {@code person} must not already exist in the address book.
+     */
+    void addPerson(Person person);
+
+    /**
+     * Replaces the given person {@code target} with {@code editedPerson}.
+     * {@code target} must exist in the address book.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     */
+    void setPerson(Person target, Person editedPerson);
+
+    /**
+     * Deletes the given person.
+     * The person must exist in the address book.
+     */
+    void deletePerson(Person target);
+}
@@ -2,16 +2,38 @@ package seedu.address.model;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * Unmodifiable view of an address book
  */
 public interface ReadOnlyAddressBook {
 
+    /** The version of an address book whose changes are not tracked. */
+    long UNTRACKED_VERSION = -1;
+
     /**
      * Returns an unmodifiable view of the persons list.
      * This list will not contain any duplicate persons.
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns a version that changes whenever the persons or tag names of the address book change. Versions are
+     * unique across address books, so two address books with the same version, other than
+     * {@link #UNTRACKED_VERSION}, hold the same data.
+     * Returns {@link #UNTRACKED_VERSION} by default, for address books that do not track their changes.
+     */
+    default long getVersion() {
+        return UNTRACKED_VERSION;
+    }
+
+    /**
+     * Returns the name of {@code tag}, which some person in the address book has, as it is in this address book.
+     * Returns the name the tag is currently displayed with by default.
+     */
+    default String getTagName(Tag tag) {
+        return tag.getTagName();
+    }
+
 }
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -24,6 +26,9 @@ public class Name {
 
     public final String fullName;
 
+    // Case-folded fullName, computed once so that sorting by name does not fold it on every comparison.
+    private final String sortKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -33,15 +38,33 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        sortKey = StringUtil.foldCase(name);
     }
 
     /**
      * Returns true if a given string is a valid name.
+     * Scans the string in place of matching {@link #VALIDATION_REGEX}, as names are validated for every person loaded.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
+        if (test.isEmpty() || test.length() > MAX_LENGTH || !StringUtil.isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !StringUtil.isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    /**
+     * Returns the key that orders names case-insensitively, in the same order as
+     * {@link String#CASE_INSENSITIVE_ORDER} orders their full names.
+     */
+    public String getSortKey() {
+        return sortKey;
+    }
 
     @Override
     public String toString() {
@@ -0,0 +1,102 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the case-folded words of a person's name to the persons whose name contains that word.
+ * Words are kept in sorted order, so that the persons with a word starting with a given prefix are found from the
+ * contiguous run of words after that prefix, without scanning every word.
+ * Sets of persons compare persons by identity, as they only ever hold the instances stored in the indexed list.
+ */
+public class NameTokenIndex implements PersonIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final TreeMap<String, Set<Person>> personsByToken = new TreeMap<>();
+
+    @Override
+    public void add(Person person) {
+        for (String token : tokenize(person.getName())) {
+            personsByToken.computeIfAbsent(token, unused -> newPersonSet()).add(person);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        for (String token : tokenize(person.getName())) {
+            Set<Person> persons = personsByToken.get(token);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByToken.remove(token);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        personsByToken.clear();
+    }
+
+    /**
+     * Returns the indexed persons whose name contains any of {@code keywords} as a full word, ignoring case.
+     */
+    public Set<Person> getPersonsWithAnyToken(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> result = newPersonSet();
+        for (String keyword : keywords) {
+            Set<Person> persons = personsByToken.get(StringUtil.foldCase(keyword.trim()));
+            if (persons != null) {
+                result.addAll(persons);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns at most {@code limit} of the indexed persons whose name contains a word starting with {@code prefix},
+     * ignoring case. The persons are taken from the matching words in alphabetical order, and the words after the
+     * limit is reached are never visited.
+     */
+    public Set<Person> getPersonsWithTokenPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        String foldedPrefix = StringUtil.foldCase(prefix.trim());
+        Set<Person> result = newPersonSet();
+        for (Map.Entry<String, Set<Person>> entry : personsByToken.tailMap(foldedPrefix).entrySet()) {
+            if (!entry.getKey().startsWith(foldedPrefix)) {
+                break;
+            }
+            for (Person person : entry.getValue()) {
+                if (result.size() >= limit) {
+                    return result;
+                }
+                result.add(person);
+            }
+        }
+        return result;
+    }
+
+    private static String[] tokenize(Name name) {
+        String[] tokens = WHITESPACE.split(name.fullName);
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = StringUtil.foldCase(tokens[i]);
+        }
+        return tokens;
+    }
+
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
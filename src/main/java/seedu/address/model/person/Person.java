@@ -1,15 +1,15 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 
 /**
  * Represents a Person in the address book.
@@ -25,11 +25,19 @@ public class Person {
     // Data fields
     private final Address address;
     private final Schedule schedule;
-    private final Set<Tag> tags = new HashSet<>();
-    private SocialMedia socialMedia;
+    // Sorted, distinct ids of the tags of this person in tagRegistry, which is null if there are none.
+    private final TagRegistry tagRegistry;
+    private final int[] tagIds;
+    private final SocialMedia socialMedia;
+
+    // Every field is immutable, so the hash is computed once, and compared first to tell most persons apart quickly.
+    // Tags are left out, as their names, which they are compared by, change when they are renamed.
+    private final int hash;
 
     /**
      * Every field must be present and not null.
+     * If the tags do not all belong to the same registry, their names are interned in a registry of this person's own
+     * until the person is added to an address book.
      */
     public Person(
             Name name,
@@ -46,8 +54,22 @@ public class Person {
         this.email = email;
         this.address = address;
         this.schedule = schedule;
-        this.tags.addAll(tags);
+        this.tagRegistry = TagIdSet.getRegistry(tags);
+        this.tagIds = TagIdSet.toSortedIds(tags, tagRegistry);
+        this.socialMedia = socialMedia;
+        this.hash = Objects.hash(name, phone, email, address, schedule, socialMedia);
+    }
+
+    private Person(Person person, TagRegistry tagRegistry, int[] tagIds, SocialMedia socialMedia) {
+        this.name = person.name;
+        this.phone = person.phone;
+        this.email = person.email;
+        this.address = person.address;
+        this.schedule = person.schedule;
+        this.tagRegistry = tagRegistry;
+        this.tagIds = tagIds;
         this.socialMedia = socialMedia;
+        this.hash = Objects.hash(name, phone, email, address, schedule, socialMedia);
     }
 
     public Name getName() {
@@ -75,11 +97,27 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return TagIdSet.view(tagRegistry, tagIds);
     }
 
-    public void setSocialMedia(SocialMedia socialMedia) {
-        this.socialMedia = socialMedia;
+    /**
+     * Returns a person with the same details as this person, but with the given {@code socialMedia}.
+     */
+    public Person withSocialMedia(SocialMedia socialMedia) {
+        requireNonNull(socialMedia);
+        return new Person(this, tagRegistry, tagIds, socialMedia);
+    }
+
+    /**
+     * Returns this person if its tags belong to {@code registry}, or a person with the same details but with its
+     * tags interned in {@code registry} otherwise.
+     */
+    public Person withTagRegistry(TagRegistry registry) {
+        requireNonNull(registry);
+        if (tagRegistry == null || tagRegistry == registry) {
+            return this;
+        }
+        return new Person(this, registry, TagIdSet.toSortedIds(getTags(), registry), socialMedia);
     }
 
     public SocialMedia getSocialMedia() {
@@ -107,30 +145,20 @@ public class Person {
      * Returns true if person already has a tag with the same name.
      */
     public boolean hasTag(String other) {
-        Iterator<Tag> iterator = tags.iterator();
-        boolean hasTag = false;
-        while (iterator.hasNext()) {
-            Tag tag = iterator.next();
-            if (tag.getTagName().equals(other)) {
-                hasTag = true;
-            }
-        }
-        return hasTag;
+        requireNonNull(other);
+        return tagIds.length > 0 && Arrays.binarySearch(tagIds, tagRegistry.findId(other)) >= 0;
     }
 
     /**
      * Returns true if person has all tags in others.
      */
     public boolean hasAllTags(Set<Tag> others) {
-        boolean hasAll = true;
-        Iterator<Tag> iterator = others.iterator();
-        while (iterator.hasNext()) {
-            Tag other = iterator.next();
-            if (!this.hasTag(other.getTagName())) {
-                hasAll = hasAll && false;
+        for (Tag other : others) {
+            if (!TagIdSet.containsTag(tagRegistry, tagIds, other)) {
+                return false;
             }
         }
-        return hasAll;
+        return true;
     }
 
     /**
@@ -149,19 +177,21 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hash == otherPerson.hash
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
                 && socialMedia.equals(otherPerson.socialMedia)
                 && schedule.equals(otherPerson.schedule)
-                && tags.equals(otherPerson.tags);
+                && (tagRegistry == otherPerson.tagRegistry
+                        ? Arrays.equals(tagIds, otherPerson.tagIds)
+                        : getTags().equals(otherPerson.getTags()));
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, schedule, tags, socialMedia);
+        return hash;
     }
 
     @Override
@@ -172,7 +202,7 @@ public class Person {
                 .add("email", email)
                 .add("address", address)
                 .add("schedule", schedule)
-                .add("tags", tags)
+                .add("tags", getTags())
                 .add("socialmedia", socialMedia)
                 .toString();
     }
@@ -0,0 +1,26 @@
+package seedu.address.model.person;
+
+/**
+ * A secondary index over the persons in a {@code UniquePersonList}.
+ * The list notifies its indexes of every change before the change becomes visible to observers of the list,
+ * so lookups made while handling a list change already reflect that change.
+ *
+ * @see UniquePersonList#addIndex(PersonIndex)
+ */
+public interface PersonIndex {
+
+    /**
+     * Indexes {@code person}, which has just been added to the list.
+     */
+    void add(Person person);
+
+    /**
+     * Stops indexing {@code person}, the exact instance that is being removed from the list.
+     */
+    void remove(Person person);
+
+    /**
+     * Removes every person from this index.
+     */
+    void clear();
+}
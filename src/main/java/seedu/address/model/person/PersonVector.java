@@ -0,0 +1,279 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable, indexed sequence of persons.
+ * Every update returns a new vector in O(log n) time, sharing all but O(log n) of its nodes with the vector it was
+ * made from, so earlier versions stay valid and cost nothing to keep.
+ * The persons are held in a height-balanced binary tree in which every node records the size of its subtree,
+ * so that a person is found by its position rather than by comparing persons.
+ */
+public final class PersonVector {
+
+    private static final PersonVector EMPTY = new PersonVector(null);
+
+    private final Node root;
+
+    private PersonVector(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty vector.
+     */
+    public static PersonVector empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a vector of {@code persons} in the same order, built in O(n) time.
+     */
+    public static PersonVector of(List<Person> persons) {
+        requireNonNull(persons);
+        return persons.isEmpty() ? EMPTY : new PersonVector(build(persons.toArray(new Person[0]), 0, persons.size()));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the person at position {@code index}.
+     */
+    public Person get(int index) {
+        Objects.checkIndex(index, size());
+        Node node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.person;
+            }
+        }
+    }
+
+    /**
+     * Returns a vector with {@code person} inserted at position {@code index}, shifting later persons back.
+     */
+    public PersonVector insert(int index, Person person) {
+        requireNonNull(person);
+        Objects.checkIndex(index, size() + 1);
+        return new PersonVector(insertAt(root, index, person));
+    }
+
+    /**
+     * Returns a vector with the person at position {@code index} replaced by {@code person}.
+     */
+    public PersonVector set(int index, Person person) {
+        requireNonNull(person);
+        Objects.checkIndex(index, size());
+        return new PersonVector(setAt(root, index, person));
+    }
+
+    /**
+     * Returns a vector without the person at position {@code index}, shifting later persons forward.
+     */
+    public PersonVector remove(int index) {
+        Objects.checkIndex(index, size());
+        Node newRoot = removeAt(root, index);
+        return newRoot == null ? EMPTY : new PersonVector(newRoot);
+    }
+
+    /**
+     * Returns an unmodifiable list view of this vector. Iterating over the view takes O(n) time in total.
+     */
+    public List<Person> asList() {
+        return new AbstractList<>() {
+            @Override
+            public Person get(int index) {
+                return PersonVector.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return PersonVector.this.size();
+            }
+
+            @Override
+            public Iterator<Person> iterator() {
+                return new InOrderIterator(root);
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonVector)) {
+            return false;
+        }
+
+        PersonVector otherVector = (PersonVector) other;
+        return asList().equals(otherVector.asList());
+    }
+
+    @Override
+    public int hashCode() {
+        return asList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    /**
+     * A node of the tree. Nodes are never modified once made, so they can be shared between vectors.
+     */
+    private static final class Node {
+        private final Person person;
+        private final Node left;
+        private final Node right;
+        private final int size;
+        private final int height;
+
+        private Node(Node left, Person person, Node right) {
+            this.person = person;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + 1 + sizeOf(right);
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static Node build(Person[] persons, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node(build(persons, from, mid), requireNonNull(persons[mid]), build(persons, mid + 1, to));
+    }
+
+    private static Node insertAt(Node node, int index, Person person) {
+        if (node == null) {
+            return new Node(null, person, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insertAt(node.left, index, person), node.person, node.right);
+        }
+        return balance(node.left, node.person, insertAt(node.right, index - leftSize - 1, person));
+    }
+
+    private static Node setAt(Node node, int index, Person person) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node(setAt(node.left, index, person), node.person, node.right);
+        } else if (index > leftSize) {
+            return new Node(node.left, node.person, setAt(node.right, index - leftSize - 1, person));
+        }
+        return new Node(node.left, person, node.right);
+    }
+
+    private static Node removeAt(Node node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(removeAt(node.left, index), node.person, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.person, removeAt(node.right, index - leftSize - 1));
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        // the removed person is taken over by the first person of the right subtree
+        return balance(node.left, first(node.right), removeAt(node.right, 0));
+    }
+
+    private static Person first(Node node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.person;
+    }
+
+    /**
+     * Returns a node holding {@code left}, {@code person} and {@code right} in order, rotated so that the heights of
+     * its subtrees differ by at most one. The heights of {@code left} and {@code right} may differ by at most two.
+     */
+    private static Node balance(Node left, Person person, Node right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node(left.left, left.person, new Node(left.right, person, right));
+            }
+            return new Node(new Node(left.left, left.person, left.right.left), left.right.person,
+                    new Node(left.right.right, person, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node(new Node(left, person, right.left), right.person, right.right);
+            }
+            return new Node(new Node(left, person, right.left.left), right.left.person,
+                    new Node(right.left.right, right.person, right.right));
+        }
+        return new Node(left, person, right);
+    }
+
+    /**
+     * Iterates over the persons of a tree in order, keeping the path to the next person on a stack.
+     */
+    private static class InOrderIterator implements Iterator<Person> {
+        private final Deque<Node> path = new ArrayDeque<>();
+
+        private InOrderIterator(Node root) {
+            pushLeftPath(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public Person next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node node = path.pop();
+            pushLeftPath(node.right);
+            return node.person;
+        }
+
+        private void pushLeftPath(Node node) {
+            for (; node != null; node = node.left) {
+                path.push(node);
+            }
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeParseException;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneOffset;
 import java.util.Objects;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's schedule in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}, {@link #isValidDate(String)},
@@ -25,12 +30,23 @@ public class Schedule {
 
     public static final String NAME_VALIDATION_REGEX = "\\p{Alnum}+";
 
-    public final LocalDate date;
-    public final LocalTime time;
+    /** The instant of a schedule without a date. */
+    public static final long NO_INSTANT = Long.MIN_VALUE;
+
+    private static final long SECONDS_PER_MINUTE = 60;
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    // The instants of the first and the last minute of the years a date may be in, 0 to 9999.
+    private static final long MIN_INSTANT = toInstant(LocalDateTime.of(0, 1, 1, 0, 0));
+    private static final long MAX_INSTANT = toInstant(LocalDateTime.of(9999, 12, 31, 23, 59));
+
     public final String scheduleName;
     public final String dateString;
     public final String timeString;
 
+    // Date and time of the schedule in minutes since the epoch, read as UTC, or NO_INSTANT if there is no date.
+    private final long instant;
+
     /**
      * Constructs a {@code Schedule}
      *
@@ -41,66 +57,154 @@ public class Schedule {
     public Schedule(String scheduleName, String date, String time) {
         requireAllNonNull(scheduleName, date, time);
 
+        // the date and time are parsed once, both to validate them and to compute the instant
         checkArgument(isValidName(scheduleName), SCHEDULE_NAME_CONSTRAINTS);
-        checkArgument(isValidDate(date), DATE_CONSTRAINTS);
-        checkArgument(isValidTime(time), TIME_CONSTRAINTS);
+        LocalDate localDate = date.isEmpty() ? null : parseDate(date);
+        checkArgument(date.isEmpty() || localDate != null, DATE_CONSTRAINTS);
+        LocalTime localTime = time.isEmpty() ? LocalTime.MIDNIGHT : parseTime(time);
+        checkArgument(localTime != null, TIME_CONSTRAINTS);
 
-        this.date = (date.isEmpty()) ? LocalDate.MIN : LocalDate.parse(date);
-        this.time = (time.isEmpty()) ? LocalTime.MIDNIGHT : LocalTime.parse(time);
+        this.instant = (localDate == null) ? NO_INSTANT : toInstant(LocalDateTime.of(localDate, localTime));
 
         this.scheduleName = (scheduleName.isEmpty()) ? "schedule" : scheduleName;
         this.dateString = date;
         this.timeString = time;
     }
 
+    private Schedule(String scheduleName, String date, String time, long instant) {
+        this.scheduleName = scheduleName;
+        this.dateString = date;
+        this.timeString = time;
+        this.instant = instant;
+    }
+
+    /**
+     * Returns the schedule named {@code scheduleName} at {@code instant}, as if it were constructed with the date of
+     * the instant in yyyy-MM-dd format, and its time in HH:mm format if {@code hasTime} or no time otherwise.
+     * The instant is used as is, so that no date or time is parsed.
+     *
+     * @throws IllegalArgumentException if the name is invalid, or the instant is not in the years 0 to 9999, or not
+     *     midnight if the schedule has no time.
+     */
+    public static Schedule ofInstant(String scheduleName, long instant, boolean hasTime) {
+        requireNonNull(scheduleName);
+        checkArgument(isValidName(scheduleName), SCHEDULE_NAME_CONSTRAINTS);
+        checkArgument(instant >= MIN_INSTANT && instant <= MAX_INSTANT, DATE_CONSTRAINTS);
+        checkArgument(hasTime || Math.floorMod(instant, MINUTES_PER_DAY) == 0, TIME_CONSTRAINTS);
+        LocalDateTime dateTime = toDateTime(instant);
+
+        return new Schedule(scheduleName.isEmpty() ? "schedule" : scheduleName, dateTime.toLocalDate().toString(),
+                hasTime ? dateTime.toLocalTime().toString() : "", instant);
+    }
+
     /**
      * Returns true if a given string is a valid schedule name or empty.
      */
     public static boolean isValidName(String test) {
-        return test.isEmpty() || test.matches(NAME_VALIDATION_REGEX);
+        return test.isEmpty() || StringUtil.isAlphanumeric(test);
     }
 
     /**
      * Returns true if a given string is a valid schedule date or empty.
      */
     public static boolean isValidDate(String test) {
-        if (test.isEmpty()) {
-            return true;
-        }
-        try {
-            LocalDate.parse(test);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
-        }
+        return test.isEmpty() || parseDate(test) != null;
     }
 
     /**
      * Returns true if a given string is a valid schedule time or empty.
      */
     public static boolean isValidTime(String test) {
-        if (test.isEmpty()) {
-            return true;
+        return test.isEmpty() || parseTime(test) != null;
+    }
+
+    /**
+     * Returns the date given in yyyy-MM-dd format by {@code date}, or null if it is not a valid date in that format.
+     * Years are thus limited to 0 to 9999, the same range {@link #ofInstant} accepts.
+     */
+    private static LocalDate parseDate(String date) {
+        if (date.length() != 10 || date.charAt(4) != '-' || date.charAt(7) != '-') {
+            return null;
         }
-        try {
-            LocalTime.parse(test);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
+        int year = parseDigits(date, 0, 4);
+        int month = parseDigits(date, 5, 7);
+        int day = parseDigits(date, 8, 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Returns the time given in HH:mm format by {@code time}, or null if it is not a valid time in that format.
+     * Seconds are not accepted, as the instant of a schedule is kept in whole minutes.
+     */
+    private static LocalTime parseTime(String time) {
+        if (time.length() != 5 || time.charAt(2) != ':') {
+            return null;
+        }
+        int hour = parseDigits(time, 0, 2);
+        int minute = parseDigits(time, 3, 5);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return null;
+        }
+        return LocalTime.of(hour, minute);
+    }
+
+    /**
+     * Returns the number written in decimal digits from {@code start} to {@code end} of {@code s}, or -1 if any of
+     * the characters is not a digit.
+     */
+    private static int parseDigits(String s, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
         }
+        return value;
     }
 
+    /**
+     * Returns the instant of {@code dateTime} as compared with {@link #getInstant()}, in minutes since the epoch.
+     * Seconds and fractions of a second are dropped.
+     */
+    public static long toInstant(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    private static LocalDateTime toDateTime(long instant) {
+        return LocalDateTime.ofEpochSecond(instant * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the date and time of this schedule in minutes since the epoch, which orders schedules chronologically,
+     * or {@link #NO_INSTANT} if this schedule has no date.
+     */
+    public long getInstant() {
+        return this.instant;
+    }
+
+    public boolean hasDateTime() {
+        return this.instant != NO_INSTANT;
+    }
+
+    /**
+     * Returns the date and time of this schedule, or null if it has no date.
+     */
     public LocalDateTime getDateTime() {
-        if (this.date.equals(LocalDate.MIN)) {
+        if (!hasDateTime()) {
             return null;
         }
 
-        return LocalDateTime.of(this.date, this.time);
+        return toDateTime(this.instant);
     }
 
     @Override
     public String toString() {
-        if (this.date.equals(LocalDate.MIN)) {
+        if (!hasDateTime()) {
             return "";
         }
         String scheduleString = this.scheduleName + ": " + this.dateString;
@@ -124,14 +228,14 @@ public class Schedule {
 
         return (this.dateString.isEmpty() && otherSchedule.dateString.isEmpty())
                 || (this.scheduleName.equals(otherSchedule.scheduleName)
-                && this.date.equals(otherSchedule.date)
-                && this.time.equals(otherSchedule.time))
+                && this.instant == otherSchedule.instant)
                 && this.dateString.equals(otherSchedule.dateString)
                 && this.timeString.equals(otherSchedule.timeString);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.scheduleName, this.date, this.time);
+        // schedules without a date are all equal, whatever their name
+        return hasDateTime() ? Objects.hash(this.scheduleName, this.instant) : 0;
     }
 }
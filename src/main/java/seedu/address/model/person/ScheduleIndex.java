@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of persons ordered by the date and time of their schedule.
+ * Persons without a schedule are not indexed.
+ * Sets of persons compare persons by identity, as they only ever hold the instances stored in the indexed list.
+ */
+public class ScheduleIndex implements PersonIndex {
+
+    private final NavigableMap<Long, Set<Person>> personsByInstant = new TreeMap<>();
+
+    @Override
+    public void add(Person person) {
+        Schedule schedule = person.getSchedule();
+        if (!schedule.hasDateTime()) {
+            return;
+        }
+        personsByInstant.computeIfAbsent(schedule.getInstant(), unused -> newPersonSet()).add(person);
+    }
+
+    @Override
+    public void remove(Person person) {
+        Schedule schedule = person.getSchedule();
+        if (!schedule.hasDateTime()) {
+            return;
+        }
+        Set<Person> persons = personsByInstant.get(schedule.getInstant());
+        if (persons == null) {
+            return;
+        }
+        persons.remove(person);
+        if (persons.isEmpty()) {
+            personsByInstant.remove(schedule.getInstant());
+        }
+    }
+
+    @Override
+    public void clear() {
+        personsByInstant.clear();
+    }
+
+    /**
+     * Returns the indexed persons whose schedule is no earlier than {@code begin} and no later than {@code end}.
+     * A {@code null} bound leaves that end of the range open, but at least one bound must be given.
+     */
+    public Set<Person> getPersonsScheduledBetween(LocalDateTime begin, LocalDateTime end) {
+        assert begin != null || end != null;
+        NavigableMap<Long, Set<Person>> range;
+        if (begin == null) {
+            range = personsByInstant.headMap(Schedule.toInstant(end), true);
+        } else if (end == null) {
+            range = personsByInstant.tailMap(Schedule.toInstant(begin), true);
+        } else if (end.isBefore(begin)) {
+            return newPersonSet();
+        } else {
+            range = personsByInstant.subMap(Schedule.toInstant(begin), true, Schedule.toInstant(end), true);
+        }
+
+        Set<Person> result = newPersonSet();
+        for (Collection<Person> persons : range.values()) {
+            result.addAll(persons);
+        }
+        return result;
+    }
+
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Objects;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's social media handle.
  */
@@ -11,8 +15,11 @@ public class SocialMedia {
     public static final String MESSAGE_CONSTRAINTS = "Social media handles should be non empty and can include "
             + "alphanumeric characters, full stops, hyphens, and underscores. length should not exceed 30 characters";
     public static final String VALIDATION_REGEX = "[-_.a-zA-Z0-9]{1,30}";
-    private String handle;
-    private Platform platform;
+
+    // Longest handle matched by VALIDATION_REGEX, which isValidHandleName checks without compiling it.
+    private static final int MAX_HANDLE_LENGTH = 30;
+    private final String handle;
+    private final Platform platform;
 
     /**
      * Definite platforms of social media that can be used.
@@ -39,10 +46,20 @@ public class SocialMedia {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidHandleName(String test) {
-        /*if (test.equals(" ")) {
+        if (test.isEmpty() || test.length() > MAX_HANDLE_LENGTH) {
             return false;
-        }*/
-        return test.matches(VALIDATION_REGEX);
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!StringUtil.isAlphanumeric(c) && c != '-' && c != '_' && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String getHandle() {
+        return handle;
     }
 
     public Platform getPlatform() {
@@ -64,6 +81,11 @@ public class SocialMedia {
         return handle.equals(otherSocialMedia.handle) && platform.equals(otherSocialMedia.platform);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(handle, platform);
+    }
+
     /**
      * Format state as text for viewing.
      */
@@ -0,0 +1,148 @@
+package seedu.address.model.person;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
+
+/**
+ * An unmodifiable set of tags backed by a sorted array of distinct tag ids in a {@link TagRegistry}.
+ * Tags are looked up by binary search, and iterated as the shared instances held by the registry.
+ */
+class TagIdSet extends AbstractSet<Tag> {
+
+    static final int[] NO_IDS = new int[0];
+
+    private final TagRegistry registry;
+    private final int[] ids;
+
+    private TagIdSet(TagRegistry registry, int[] ids) {
+        this.registry = registry;
+        this.ids = ids;
+    }
+
+    /**
+     * Returns the registry every tag in {@code tags} belongs to, or a new registry to intern their names in if they
+     * do not all belong to the same one, or null if there are no tags.
+     */
+    static TagRegistry getRegistry(Collection<Tag> tags) {
+        if (tags.isEmpty()) {
+            return null;
+        }
+        TagRegistry registry = tags.iterator().next().getRegistry();
+        for (Tag tag : tags) {
+            if (registry == null || tag.getRegistry() != registry) {
+                return new TagRegistry();
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Returns the sorted, distinct ids of {@code tags} in {@code registry}, interning the names of the tags that do
+     * not belong to it.
+     */
+    static int[] toSortedIds(Collection<Tag> tags, TagRegistry registry) {
+        if (tags.isEmpty()) {
+            return NO_IDS;
+        }
+        int[] ids = new int[tags.size()];
+        int count = 0;
+        for (Tag tag : tags) {
+            ids[count++] = registry.intern(tag);
+        }
+        Arrays.sort(ids);
+        int distinctCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || ids[i] != ids[i - 1]) {
+                ids[distinctCount++] = ids[i];
+            }
+        }
+        return distinctCount == ids.length ? ids : Arrays.copyOf(ids, distinctCount);
+    }
+
+    /**
+     * Returns an unmodifiable view of {@code ids} in {@code registry} as tags. {@code ids} must be sorted and
+     * distinct, and {@code registry} may only be null if there are none.
+     */
+    static TagIdSet view(TagRegistry registry, int[] ids) {
+        return new TagIdSet(registry, ids);
+    }
+
+    /**
+     * Returns true if the sorted {@code ids} in {@code registry} contain the id of {@code tag} there.
+     */
+    static boolean containsTag(TagRegistry registry, int[] ids, Tag tag) {
+        return ids.length > 0 && Arrays.binarySearch(ids, registry.findId(tag)) >= 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Tag && containsTag(registry, ids, (Tag) o);
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> tags) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> tags) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> tags) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < ids.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return registry.getTag(ids[next++]);
+            }
+        };
+    }
+}
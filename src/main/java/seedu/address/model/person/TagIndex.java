@@ -0,0 +1,109 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
+
+/**
+ * An inverted index from tags to the persons that have the tag.
+ * The tags of the indexed persons must belong to the {@code TagRegistry} of the index. They are keyed by their id
+ * there, so the index stays valid when a tag is renamed in the registry.
+ * Posting sets compare persons by identity, as they only ever hold the instances stored in the indexed list.
+ */
+public class TagIndex implements PersonIndex {
+
+    private final TagRegistry registry;
+    private final Map<Integer, Set<Person>> postings = new HashMap<>();
+
+    /**
+     * Creates an empty index of persons with tags in {@code registry}.
+     */
+    public TagIndex(TagRegistry registry) {
+        this.registry = requireNonNull(registry);
+    }
+
+    @Override
+    public void add(Person person) {
+        for (Tag tag : person.getTags()) {
+            assert tag.getRegistry() == registry;
+            postings.computeIfAbsent(tag.getId(), unused -> newPostingSet()).add(person);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        for (Tag tag : person.getTags()) {
+            Set<Person> posting = postings.get(tag.getId());
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(person);
+            if (posting.isEmpty()) {
+                postings.remove(tag.getId());
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the number of indexed persons with {@code tag}.
+     */
+    public int count(Tag tag) {
+        requireNonNull(tag);
+        return postings.getOrDefault(registry.findId(tag), Collections.emptySet()).size();
+    }
+
+    /**
+     * Returns the indexed persons that have every tag in {@code tags}, which must not be empty.
+     * The posting sets are intersected starting from the smallest, so the cost is bounded by the rarest tag.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsWithAllTags(Set<Tag> tags) {
+        requireNonNull(tags);
+        assert !tags.isEmpty();
+        List<Set<Person>> postingsToIntersect = new ArrayList<>(tags.size());
+        for (Tag tag : tags) {
+            Set<Person> posting = postings.get(registry.findId(tag));
+            if (posting == null) {
+                return newPostingSet();
+            }
+            postingsToIntersect.add(posting);
+        }
+
+        postingsToIntersect.sort(Comparator.comparingInt(Set::size));
+        Set<Person> result = newPostingSet();
+        for (Person candidate : postingsToIntersect.get(0)) {
+            if (isInAll(candidate, postingsToIntersect)) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isInAll(Person candidate, List<Set<Person>> postingsToIntersect) {
+        for (int i = 1; i < postingsToIntersect.size(); i++) {
+            if (!postingsToIntersect.get(i).contains(candidate)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<Person> newPostingSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
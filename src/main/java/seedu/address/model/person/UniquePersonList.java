@@ -5,9 +5,17 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.commands.SortCommand.ASC;
 import static seedu.address.logic.commands.SortCommand.DESC;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -22,6 +30,16 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * The slot of every person is indexed by name alongside the list, so that identity checks and lookups of the
+ * person to replace or remove do not need to scan the list. Further {@link PersonIndex secondary indexes} can be
+ * registered with {@link #addIndex(PersonIndex)} and are kept in sync with the list, or rebuilt once at the
+ * end of a {@link #batch(Runnable) batch} of changes.
+ *
+ * Once sorted with {@link #sortPersons(String, Boolean)}, the list stays in that order: persons added or edited
+ * afterwards are placed by binary search, until the list is replaced with {@link #setPersons(List)}.
+ *
+ * The persons are also kept in a {@link PersonVector}, updated alongside the list, so that an immutable
+ * {@link #snapshot() snapshot} of the list can be taken at any time without copying it.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -31,12 +49,43 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // The list that changes are made to: internalList, or a private copy of it while a batch of changes is made.
+    // During a batch, only workingList and the names in slotsByName are kept up to date, and whether the batch has
+    // changed the list is tracked instead; the rest is rebuilt once when the batch ends.
+    private List<Person> workingList = internalList;
+    private boolean isBatchChanged;
+
+    // Position of each person in workingList keyed by their identity field. Only the slots below validSlotCount are
+    // guaranteed to be up to date; the rest are refreshed lazily, so that a run of inserts or removals near the front
+    // of the list renumbers the slots after them once rather than once per change.
+    private Map<Name, Integer> slotsByName = new HashMap<>();
+    private int validSlotCount;
+
+    // The order the list is kept in, or null if persons are kept in the order they were added.
+    private Comparator<Person> sortOrder;
+    private String sortMode;
+
+    // The same persons as internalList, in the same order.
+    private PersonVector versions = PersonVector.empty();
+
+    private final List<PersonIndex> secondaryIndexes = new ArrayList<>();
+
+    /**
+     * Registers {@code index} to be kept in sync with this list, and populates it with the persons currently in it.
+     */
+    public void addIndex(PersonIndex index) {
+        requireNonNull(index);
+        index.clear();
+        workingList.forEach(index::add);
+        secondaryIndexes.add(index);
+    }
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return slotsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -44,11 +93,26 @@ public class UniquePersonList implements Iterable<Person> {
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
+        requireNonNull(toAdd);
+        add(workingList.size(), toAdd);
+    }
+
+    /**
+     * Adds a person to the list at position {@code position}, or at its place in the order the list is kept in if
+     * it is sorted.
+     * The person must not already exist in the list.
+     */
+    public void add(int position, Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        int index = sortOrder == null ? Objects.checkIndex(position, workingList.size() + 1) : insertionPointOf(toAdd);
+        slotsByName.put(toAdd.getName(), index);
+        if (!isBatching()) {
+            secondaryIndexes.forEach(secondaryIndex -> secondaryIndex.add(toAdd));
+        }
+        insertAt(index, toAdd);
     }
 
     /**
@@ -59,7 +123,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -68,7 +132,29 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = workingList.get(index);
+        slotsByName.remove(target.getName());
+        if (!isBatching()) {
+            for (PersonIndex secondaryIndex : secondaryIndexes) {
+                secondaryIndex.remove(replaced);
+                secondaryIndex.add(editedPerson);
+            }
+        }
+        if (sortOrder == null || isInOrderAt(index, editedPerson)) {
+            slotsByName.put(editedPerson.getName(), index);
+            if (isBatching()) {
+                isBatchChanged = true;
+            } else {
+                versions = versions.set(index, editedPerson);
+            }
+            workingList.set(index, editedPerson);
+            return;
+        }
+
+        removeAt(index);
+        int newIndex = insertionPointOf(editedPerson);
+        slotsByName.put(editedPerson.getName(), newIndex);
+        insertAt(newIndex, editedPerson);
     }
 
     /**
@@ -77,31 +163,93 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person removed = workingList.get(index);
+        slotsByName.remove(toRemove.getName());
+        if (!isBatching()) {
+            secondaryIndexes.forEach(secondaryIndex -> secondaryIndex.remove(removed));
+        }
+        removeAt(index);
+    }
+
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list.
+     * Every person must exist in the list.
+     * The persons to keep are filtered in a single pass, and the slots and indexes rebuilt once, so that removing many
+     * persons does not renumber the slots after each of them.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : toRemove) {
+            int index = indexOf(person);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            removed.add(workingList.get(index));
+        }
+        if (removed.isEmpty()) {
+            return;
+        }
+
+        List<Person> kept = new ArrayList<>(workingList.size() - removed.size());
+        for (Person person : workingList) {
+            if (!removed.contains(person)) {
+                kept.add(person);
+            }
+        }
+        slotsByName = indexBySlot(kept);
+        validSlotCount = kept.size();
+        if (!isBatching()) {
+            versions = PersonVector.of(kept);
+        }
+        replaceContents(kept);
     }
 
+    /**
+     * Replaces the contents of this list with {@code replacement}, keeping the order it is sorted in, if any.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replacement.refreshSlots();
+        slotsByName = new HashMap<>(replacement.slotsByName);
+        validSlotCount = replacement.workingList.size();
+        sortOrder = replacement.sortOrder;
+        sortMode = replacement.sortMode;
+        versions = replacement.versions;
+        for (PersonIndex secondaryIndex : secondaryIndexes) {
+            secondaryIndex.clear();
+            replacement.workingList.forEach(secondaryIndex::add);
+        }
+        replaceContents(replacement.workingList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Uniqueness is validated and all indexes are built in a single pass over {@code persons}.
+     * The list is kept in the order of {@code persons} from then on.
+     *
+     * @throws DuplicatePersonException listing every person whose identity clashes with an earlier one.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
-
-        internalList.setAll(persons);
+        slotsByName = indexBySlot(persons);
+        validSlotCount = persons.size();
+        sortOrder = null;
+        sortMode = null;
+        versions = PersonVector.of(persons);
+        replaceContents(persons);
     }
 
     /**
      * Sorts persons in the address book by their names or schedules in ascending or descending order.
+     * The list is kept in this order as persons are added or edited, so sorting it again in the same order does
+     * nothing.
      *
      * @param order the sorting order, either <code>asc</code> or <code>desc</code>.
      * @param toSortBySchedule a {@code Boolean} indicating whether to sort by schedule (<code>true</code>)
@@ -111,18 +259,94 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void sortPersons(String order, Boolean toSortBySchedule) {
         assert order.equals(ASC) || order.equals(DESC);
-        Comparator<Person> comparator;
-        if (toSortBySchedule) {
-            comparator = sortBySchedule(order);
+        String mode = order + (toSortBySchedule ? " schedule" : " name");
+        if (mode.equals(sortMode)) {
+            return;
+        }
+
+        Comparator<Person> comparator = toSortBySchedule ? sortBySchedule(order) : sortByName(order);
+        workingList.sort(comparator);
+        if (isBatching()) {
+            isBatchChanged = true;
         } else {
-            comparator = Comparator.comparing(person -> person.getName().fullName,
-                    String.CASE_INSENSITIVE_ORDER);
-            if (order.equals(DESC)) {
-                comparator = comparator.reversed();
-            }
+            versions = PersonVector.of(workingList);
+        }
+        sortOrder = comparator;
+        sortMode = mode;
+        validSlotCount = 0;
+    }
+    /**
+     * Makes the changes in {@code changes} to this list as a batch: the changes are made to a copy of the list, and
+     * once they are all made, the slots, the secondary indexes and the snapshot of the list are rebuilt from it in a
+     * single pass, and observers of the list see a single change.
+     * During the batch, {@link #contains} and {@link #indexOf} already reflect its changes, but the secondary
+     * indexes and {@link #snapshot()} do not.
+     * If {@code changes} throws an exception, the list is left as it was before the batch, and the exception is
+     * rethrown. Batches made during a batch are part of the outer batch.
+     */
+    public void batch(Runnable changes) {
+        requireNonNull(changes);
+        if (isBatching()) {
+            changes.run();
+            return;
+        }
+
+        PersonVector versionsBefore = versions;
+        Comparator<Person> sortOrderBefore = sortOrder;
+        String sortModeBefore = sortMode;
+        workingList = new ArrayList<>(internalList);
+        isBatchChanged = false;
+        try {
+            changes.run();
+        } catch (RuntimeException | Error e) {
+            workingList = internalList;
+            versions = versionsBefore;
+            sortOrder = sortOrderBefore;
+            sortMode = sortModeBefore;
+            slotsByName = indexBySlot(internalList);
+            validSlotCount = internalList.size();
+            throw e;
+        }
+
+        List<Person> changedList = workingList;
+        workingList = internalList;
+        if (isBatchChanged) {
+            slotsByName = indexBySlot(changedList);
+            validSlotCount = changedList.size();
+            versions = PersonVector.of(changedList);
+            internalList.setAll(changedList);
+        }
+    }
+
+    /**
+     * Replaces the contents of this list with the persons in {@code snapshot}, which must have been taken from a
+     * {@code UniquePersonList} sorted in {@code sortMode}, or in no order if {@code sortMode} is null.
+     * The list is kept in that order from then on.
+     */
+    public void restore(PersonVector snapshot, String sortMode) {
+        requireNonNull(snapshot);
+        setPersons(snapshot.asList());
+        versions = snapshot;
+        if (sortMode != null) {
+            String[] orderAndKey = sortMode.split(" ");
+            sortOrder = orderAndKey[1].equals("schedule") ? sortBySchedule(orderAndKey[0]) : sortByName(orderAndKey[0]);
+            this.sortMode = sortMode;
         }
-        internalList.sort(comparator);
     }
+
+    /**
+     * Returns the order the list is kept in, such as <code>asc name</code>, or null if persons are kept in the order
+     * they were added.
+     */
+    public String getSortMode() {
+        return sortMode;
+    }
+
+    private Comparator<Person> sortByName(String order) {
+        Comparator<Person> comparator = Comparator.comparing(person -> person.getName().getSortKey());
+        return order.equals(DESC) ? comparator.reversed() : comparator;
+    }
+
     /**
      * Generates a Comparator for sorting Person objects by their schedule's date and time.
      *
@@ -134,22 +358,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Comparator<Person> sortBySchedule(String order) {
         assert order.equals(ASC) || order.equals(DESC);
-        Comparator<Person> comparator;
+        // Persons without a schedule come last in either order.
         if (order.equals(ASC)) {
-            comparator = Comparator.comparing((Person person) -> {
+            return Comparator.comparingLong((Person person) -> {
                 Schedule schedule = person.getSchedule();
-                return schedule.getDateTime();
-            }, Comparator.nullsLast(Comparator.naturalOrder()));
-        } else {
-            comparator = Comparator.comparing((Person person) -> {
-                Schedule schedule = person.getSchedule();
-                return schedule.getDateTime();
-            }, Comparator.nullsFirst(Comparator.naturalOrder())).reversed();
+                return schedule.hasDateTime() ? schedule.getInstant() : Long.MAX_VALUE;
+            });
         }
-        return comparator;
+        return Comparator.comparingLong((Person person) -> person.getSchedule().getInstant()).reversed();
     }
 
 
+    /**
+     * Returns the persons currently in the list, in order, as an immutable vector that later changes to the list
+     * do not affect. This takes O(1) time.
+     */
+    public PersonVector snapshot() {
+        return versions;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -159,7 +386,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -188,16 +415,133 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position in this list of the person equal to {@code person}, or -1 if there is none.
+     * Only the person with the same identity needs to be compared, as identities are unique.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Integer slot = slotsByName.get(person.getName());
+        if (slot == null) {
+            return -1;
+        }
+        if (slot >= validSlotCount) {
+            refreshSlots();
+            slot = slotsByName.get(person.getName());
+        }
+        return workingList.get(slot).equals(person) ? slot : -1;
+    }
+
+    /**
+     * Brings the indexed slot of every person up to date.
+     */
+    private void refreshSlots() {
+        for (int i = validSlotCount; i < workingList.size(); i++) {
+            slotsByName.put(workingList.get(i).getName(), i);
+        }
+        validSlotCount = workingList.size();
+    }
+
+    /**
+     * Inserts {@code person}, whose slot has already been indexed, at position {@code index} of the list.
+     */
+    private void insertAt(int index, Person person) {
+        boolean isAppendedToUpToDateSlots = validSlotCount == index && index == workingList.size();
+        validSlotCount = isAppendedToUpToDateSlots ? index + 1 : Math.min(validSlotCount, index);
+        if (isBatching()) {
+            isBatchChanged = true;
+        } else {
+            versions = versions.insert(index, person);
+        }
+        workingList.add(index, person);
+    }
+
+    /**
+     * Removes the person at position {@code index} of the list, whose slot has already been unindexed.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private void removeAt(int index) {
+        validSlotCount = Math.min(validSlotCount, index);
+        if (isBatching()) {
+            isBatchChanged = true;
+        } else {
+            versions = versions.remove(index);
+        }
+        workingList.remove(index);
+    }
+
+    /**
+     * Returns the position after every person not ordered after {@code person} in the current sort order, so that
+     * persons which compare equal stay in the order they were placed in.
+     */
+    private int insertionPointOf(Person person) {
+        int low = 0;
+        int high = workingList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortOrder.compare(workingList.get(mid), person) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if {@code person} would be in the current sort order at position {@code index} of the list,
+     * in place of the person currently there.
+     */
+    private boolean isInOrderAt(int index, Person person) {
+        return (index == 0 || sortOrder.compare(workingList.get(index - 1), person) <= 0)
+                && (index == workingList.size() - 1 || sortOrder.compare(person, workingList.get(index + 1)) <= 0);
+    }
+
+    /**
+     * Replaces the persons in workingList with {@code persons}, whose slots have already been indexed.
+     */
+    private void replaceContents(List<Person> persons) {
+        if (isBatching()) {
+            isBatchChanged = true;
+            workingList = new ArrayList<>(persons);
+        } else {
+            internalList.setAll(persons);
+        }
+    }
+
+    /**
+     * Returns true if a batch of changes is being made.
+     */
+    private boolean isBatching() {
+        return workingList != internalList;
+    }
+
+    /**
+     * Returns the position of each person in {@code persons} keyed by name, and repopulates the secondary indexes
+     * with {@code persons}.
+     *
+     * @throws DuplicatePersonException if {@code persons} does not contain only unique persons.
+     */
+    private Map<Name, Integer> indexBySlot(List<Person> persons) {
+        Map<Name, Integer> index = new HashMap<>(Math.max(16, (int) (persons.size() / 0.75f) + 1));
+        List<Person> duplicates = new ArrayList<>();
+        secondaryIndexes.forEach(PersonIndex::clear);
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            if (index.putIfAbsent(person.getName(), i) != null) {
+                duplicates.add(person);
+                continue;
+            }
+            for (PersonIndex secondaryIndex : secondaryIndexes) {
+                secondaryIndex.add(person);
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            // the list is left unchanged, so its secondary indexes are restored to match it
+            for (PersonIndex secondaryIndex : secondaryIndexes) {
+                secondaryIndex.clear();
+                workingList.forEach(secondaryIndex::add);
             }
+            throw new DuplicatePersonException(duplicates);
         }
-        return true;
+        return index;
     }
 }
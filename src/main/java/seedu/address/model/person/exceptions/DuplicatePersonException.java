@@ -1,11 +1,41 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+
+    private final List<Person> duplicatePersons;
+
+    /**
+     * Creates a {@code DuplicatePersonException} without reporting which persons clashed.
+     */
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicatePersons = Collections.emptyList();
+    }
+
+    /**
+     * Creates a {@code DuplicatePersonException} that reports every person in {@code duplicatePersons}.
+     */
+    public DuplicatePersonException(List<Person> duplicatePersons) {
+        super("Operation would result in duplicate persons: " + duplicatePersons.stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", ")));
+        this.duplicatePersons = Collections.unmodifiableList(duplicatePersons);
+    }
+
+    /**
+     * Returns the persons whose identity clashed with an earlier person, if they were reported.
+     */
+    public List<Person> getDuplicatePersons() {
+        return duplicatePersons;
     }
 }
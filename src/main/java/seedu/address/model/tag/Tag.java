@@ -3,36 +3,72 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the address book.
+ * A tag of an address book is identified by the id its name is interned to in the {@link TagRegistry} of the address
+ * book, so renaming the tag there renames it for every holder of the tag. A tag constructed from a name belongs to no
+ * registry until a person holding it is added to an address book.
+ * Tags are equal if they have the same name, so the hash of a tag of a registry changes when the tag is renamed.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
-    private String tagName;
+
+    // The registry of the tag and its id there, or null and -1 if the tag belongs to no registry.
+    private final TagRegistry registry;
+    private final int id;
+    // The name of a tag that belongs to no registry, or null otherwise.
+    private final String tagName;
 
     /**
-     * Constructs a {@code Tag}.
+     * Constructs a {@code Tag}, which belongs to no registry.
      *
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        this.registry = null;
+        this.id = -1;
         this.tagName = tagName;
     }
 
+    /**
+     * Constructs the {@code Tag} with an already interned {@code id} in {@code registry}.
+     */
+    Tag(TagRegistry registry, int id) {
+        this.registry = registry;
+        this.id = id;
+        this.tagName = null;
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.isAlphanumeric(test);
+    }
+
+    /**
+     * Returns the id of this tag in its registry, or -1 if it belongs to no registry.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the registry this tag belongs to, or null if it belongs to none.
+     */
+    public TagRegistry getRegistry() {
+        return registry;
     }
 
     public String getTagName() {
-        return tagName;
+        return registry == null ? tagName : registry.getName(id);
     }
 
     @Override
@@ -47,27 +83,21 @@ public class Tag {
         }
 
         Tag otherTag = (Tag) other;
-        return tagName.equals(otherTag.tagName);
+        if (registry != null && registry == otherTag.registry && id == otherTag.id) {
+            return true;
+        }
+        return getTagName().equals(otherTag.getTagName());
     }
 
     @Override
     public int hashCode() {
-        return tagName.hashCode();
+        return getTagName().hashCode();
     }
 
     /**
      * Format state as text for viewing.
      */
     public String toString() {
-        return '[' + tagName + ']';
-    }
-
-    /**
-     * Updates tag name.
-     *
-     * @param newName new tag name
-     */
-    public void updateTagName(String newName) {
-        tagName = newName;
+        return '[' + getTagName() + ']';
     }
 }
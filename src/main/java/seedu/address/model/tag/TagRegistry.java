@@ -0,0 +1,149 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Interns tag names into ids, and maps each id back to the name it is displayed with.
+ * Tags of the registry hold only their id, so renaming an id here renames the tag for every person holding it at once.
+ * Each address book has a registry of its own, which only holds the names of tags its persons have been given.
+ */
+public class TagRegistry {
+
+    private final Map<String, Integer> idsByName = new HashMap<>();
+    private final List<String> namesById = new ArrayList<>();
+    private final List<Tag> tagsById = new ArrayList<>();
+    // An unmodifiable copy of namesById, or null if a tag has been interned or renamed since it was copied.
+    private List<String> names;
+    private final List<RenameListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Returns the id of the tag named {@code name}, registering a new id for it if there is none yet.
+     */
+    public synchronized int intern(String name) {
+        requireNonNull(name);
+        return idsByName.computeIfAbsent(name, unused -> {
+            names = null;
+            namesById.add(name);
+            tagsById.add(null);
+            return namesById.size() - 1;
+        });
+    }
+
+    /**
+     * Returns the id of {@code tag} in this registry: its own id if it is a tag of this registry, or the id of the
+     * tag with the same name otherwise, registering a new id for it if there is none yet.
+     */
+    public int intern(Tag tag) {
+        requireNonNull(tag);
+        return tag.getRegistry() == this ? tag.getId() : intern(tag.getTagName());
+    }
+
+    /**
+     * Returns the id registered under {@code name}, or -1 if there is none.
+     * Unlike {@link #intern(String)}, this never registers a new id.
+     */
+    public synchronized int findId(String name) {
+        requireNonNull(name);
+        return idsByName.getOrDefault(name, -1);
+    }
+
+    /**
+     * Returns the id of {@code tag} in this registry, as {@link #intern(Tag)} does, or -1 if there is none.
+     * Unlike {@link #intern(Tag)}, this never registers a new id.
+     */
+    public int findId(Tag tag) {
+        requireNonNull(tag);
+        return tag.getRegistry() == this ? tag.getId() : findId(tag.getTagName());
+    }
+
+    /**
+     * Returns the shared {@code Tag} instance with {@code id}, which must have been interned.
+     */
+    public synchronized Tag getTag(int id) {
+        Tag tag = tagsById.get(id);
+        if (tag == null) {
+            tag = new Tag(this, id);
+            tagsById.set(id, tag);
+        }
+        return tag;
+    }
+
+    /**
+     * Returns the name the tag with {@code id} is currently displayed with.
+     */
+    public synchronized String getName(int id) {
+        return namesById.get(id);
+    }
+
+    /**
+     * Returns the names every tag is currently displayed with, indexed by id.
+     * The returned list never changes, so it keeps these names when tags are renamed later.
+     */
+    public synchronized List<String> getNames() {
+        if (names == null) {
+            names = List.copyOf(namesById);
+        }
+        return names;
+    }
+
+    /**
+     * Registers the name the tag with {@code id} is displayed with under {@code id} again, in case a rename has
+     * taken it over for another id since, e.g. when a person holding the tag is added back on undo.
+     */
+    public synchronized void claim(int id) {
+        idsByName.put(namesById.get(id), id);
+    }
+
+    /**
+     * Renames the tag with {@code id} to {@code newName}.
+     * If {@code newName} is registered under another id, which no person may hold, the name is registered under
+     * {@code id} instead, until that other id is claimed back with {@link #claim(int)}.
+     * Listeners are notified after the rename.
+     */
+    public void rename(int id, String newName) {
+        requireNonNull(newName);
+        String oldName;
+        synchronized (this) {
+            oldName = namesById.get(id);
+            if (oldName.equals(newName)) {
+                return;
+            }
+            idsByName.remove(oldName, id);
+            idsByName.put(newName, id);
+            namesById.set(id, newName);
+            names = null;
+        }
+        for (RenameListener listener : listeners) {
+            listener.tagRenamed(id, oldName, newName);
+        }
+    }
+
+    /**
+     * Registers {@code listener} to be notified of every rename.
+     */
+    public void addRenameListener(RenameListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    public void removeRenameListener(RenameListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Represents a function to be notified when a tag is renamed.
+     */
+    @FunctionalInterface
+    public interface RenameListener {
+        /**
+         * Called after the tag with {@code id} is renamed from {@code oldName} to {@code newName}.
+         */
+        void tagRenamed(int id, String oldName, String newName);
+    }
+}
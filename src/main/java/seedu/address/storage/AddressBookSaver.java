@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background thread.
+ * The address books submitted within {@code delayMillis} of the first unsaved one are coalesced, so only the latest
+ * of them is written. Submitted address books must not change afterwards, e.g. they are snapshots.
+ */
+public class AddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    // How long the background thread is kept alive with nothing to save.
+    private static final long KEEP_ALIVE_SECONDS = 10;
+
+    private final AddressBookStorage storage;
+    private final long delayMillis;
+    // A single thread, so that saves never overlap and are written in the order they were taken.
+    private final ScheduledThreadPoolExecutor executor;
+
+    private volatile Consumer<IOException> failureHandler = e -> {};
+
+    // The latest address book submitted but not saved yet, and whether a save of it is scheduled.
+    private ReadOnlyAddressBook pending;
+    private boolean isSaveScheduled;
+    // The address book saved last, which is only accessed by the background thread.
+    private ReadOnlyAddressBook saved;
+
+    /**
+     * Creates an {@code AddressBookSaver} saving to {@code storage} at most {@code delayMillis} after a submit.
+     */
+    public AddressBookSaver(AddressBookStorage storage, long delayMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.delayMillis = delayMillis;
+        executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "AddressBookSaver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setKeepAliveTime(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Sets {@code failureHandler} to be called, on the background thread, with the exception of each failed save.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved, replacing any address book submitted earlier but not saved yet.
+     */
+    public synchronized void submit(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        pending = addressBook;
+        if (!isSaveScheduled) {
+            isSaveScheduled = true;
+            executor.schedule(this::saveInBackground, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves the address book submitted last, if it is not saved yet, and flushes it to the storage, and waits for
+     * both to complete.
+     *
+     * @throws IOException if the address book could not be saved.
+     */
+    public void flush() throws IOException {
+        Future<Void> save = executor.submit(() -> {
+            savePending();
+            if (saved != null) {
+                storage.flushAddressBook(saved);
+            }
+            return null;
+        });
+        try {
+            save.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException("Interrupted while saving");
+            interrupted.initCause(e);
+            throw interrupted;
+        }
+    }
+
+    /**
+     * Returns true if some submitted address book is not saved yet.
+     */
+    public synchronized boolean hasPendingSave() {
+        return pending != null;
+    }
+
+    private void saveInBackground() {
+        try {
+            savePending();
+        } catch (IOException e) {
+            logger.warning("Failed to save the address book in the background: " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        }
+    }
+
+    private void savePending() throws IOException {
+        ReadOnlyAddressBook addressBook;
+        synchronized (this) {
+            addressBook = pending;
+            pending = null;
+            isSaveScheduled = false;
+        }
+        if (addressBook == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(addressBook);
+            saved = addressBook;
+        } catch (IOException e) {
+            synchronized (this) {
+                // keep the unsaved address book for the next flush, unless a newer one was submitted meanwhile
+                if (pending == null) {
+                    pending = addressBook;
+                }
+            }
+            throw e;
+        }
+    }
+}
@@ -42,4 +42,12 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Completes the saving of {@code addressBook}, the address book saved last, e.g. before the application exits or
+     * the data is exported, by writing what is otherwise written only once in a while.
+     * Does nothing by default.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void flushAddressBook(ReadOnlyAddressBook addressBook) throws IOException {}
+
 }
@@ -0,0 +1,290 @@
+package seedu.address.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.SocialMedia;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
+
+/**
+ * Encodes an address book as the bytes of a {@link BinaryAddressBookStorage} snapshot, and back.
+ * The snapshot starts with {@link #MAGIC} and {@link #FORMAT_VERSION}, followed by
+ * <ol>
+ *     <li>the position in the journal of the data that the snapshot was taken at,</li>
+ *     <li>the string table: every distinct text field, as its UTF-8 length followed by its bytes,</li>
+ *     <li>the tag table: the index in the string table of the name of every tag held by some person,</li>
+ *     <li>the persons: their text fields as indexes in the string table, their social media platform as its
+ *     ordinal, their schedule as its instant in minutes where possible, and their tags as indexes in the tag
+ *     table.</li>
+ * </ol>
+ */
+class BinaryAddressBookFormat {
+
+    /** The first bytes of every snapshot, "ABSN" in ASCII. */
+    static final int MAGIC = 0x4142534E;
+
+    /** The version of the layout below, to be increased on every change to it. */
+    static final int FORMAT_VERSION = 3;
+
+    // How the schedule of a person is written: as its text fields, or as its instant with or without a time.
+    private static final byte SCHEDULE_TEXT = 0;
+    private static final byte SCHEDULE_DATE = 1;
+    private static final byte SCHEDULE_DATE_TIME = 2;
+
+    private static final SocialMedia.Platform[] PLATFORMS = SocialMedia.Platform.values();
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Writes {@code addressBook}, as it is at {@code position} in the journal of the data, to {@code out}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, JournalAddressBookStorage.Position position,
+            DataOutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> stringIndexes = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        // tags are keyed by the name they are written with, which the tags of an address book never share
+        Map<String, Integer> tagIndexes = new HashMap<>();
+        List<Integer> tagNameIndexes = new ArrayList<>();
+        for (Person person : persons) {
+            for (String field : getTextFields(person)) {
+                stringIndexes.computeIfAbsent(field, unused -> {
+                    strings.add(field);
+                    return strings.size() - 1;
+                });
+            }
+            for (Tag tag : person.getTags()) {
+                tagIndexes.computeIfAbsent(addressBook.getTagName(tag), tagName -> {
+                    tagNameIndexes.add(stringIndexes.computeIfAbsent(tagName, unusedName -> {
+                        strings.add(tagName);
+                        return strings.size() - 1;
+                    }));
+                    return tagNameIndexes.size() - 1;
+                });
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(position.snapshotChecksum);
+        out.writeLong(position.journalBytes);
+        out.writeInt(position.recordCount);
+        out.writeInt(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        out.writeInt(tagNameIndexes.size());
+        for (int tagNameIndex : tagNameIndexes) {
+            out.writeInt(tagNameIndex);
+        }
+        out.writeInt(persons.size());
+        for (Person person : persons) {
+            writePerson(person, addressBook, out, stringIndexes, tagIndexes);
+        }
+    }
+
+    /**
+     * Returns the text fields of {@code person} that are written to the string table.
+     */
+    private static List<String> getTextFields(Person person) {
+        Schedule schedule = person.getSchedule();
+        List<String> fields = new ArrayList<>(List.of(person.getName().fullName, person.getPhone().value,
+                person.getEmail().value, person.getAddress().value, person.getSocialMedia().getHandle(),
+                schedule.scheduleName));
+        if (getScheduleKind(schedule) == SCHEDULE_TEXT) {
+            fields.add(schedule.dateString);
+            fields.add(schedule.timeString);
+        }
+        return fields;
+    }
+
+    private static void writePerson(Person person, ReadOnlyAddressBook addressBook, DataOutputStream out,
+            Map<String, Integer> stringIndexes, Map<String, Integer> tagIndexes) throws IOException {
+        out.writeInt(stringIndexes.get(person.getName().fullName));
+        out.writeInt(stringIndexes.get(person.getPhone().value));
+        out.writeInt(stringIndexes.get(person.getEmail().value));
+        out.writeInt(stringIndexes.get(person.getAddress().value));
+        out.writeByte(person.getSocialMedia().getPlatform().ordinal());
+        out.writeInt(stringIndexes.get(person.getSocialMedia().getHandle()));
+
+        Schedule schedule = person.getSchedule();
+        byte scheduleKind = getScheduleKind(schedule);
+        out.writeByte(scheduleKind);
+        out.writeInt(stringIndexes.get(schedule.scheduleName));
+        if (scheduleKind == SCHEDULE_TEXT) {
+            out.writeInt(stringIndexes.get(schedule.dateString));
+            out.writeInt(stringIndexes.get(schedule.timeString));
+        } else {
+            out.writeLong(schedule.getInstant());
+        }
+
+        Set<Tag> tags = person.getTags();
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            out.writeInt(tagIndexes.get(addressBook.getTagName(tag)));
+        }
+    }
+
+    /**
+     * Returns how {@code schedule} is written: as its instant if it is read back exactly from it, or as its text.
+     */
+    private static byte getScheduleKind(Schedule schedule) {
+        if (!schedule.hasDateTime()) {
+            return SCHEDULE_TEXT;
+        }
+        boolean hasTime = !schedule.timeString.isEmpty();
+        try {
+            Schedule fromInstant = Schedule.ofInstant(schedule.scheduleName, schedule.getInstant(), hasTime);
+            if (fromInstant.dateString.equals(schedule.dateString)
+                    && fromInstant.timeString.equals(schedule.timeString)) {
+                return hasTime ? SCHEDULE_DATE_TIME : SCHEDULE_DATE;
+            }
+        } catch (IllegalArgumentException e) {
+            // the schedule is written as its text below
+        }
+        return SCHEDULE_TEXT;
+    }
+
+    /**
+     * Returns the position in the journal of the data that the snapshot in {@code in} was taken at, leaving
+     * {@code in} at the persons of the snapshot.
+     *
+     * @throws IOException if {@code in} could not be read, or ends before the position does.
+     * @throws IllegalValueException if {@code in} does not hold a snapshot of this version.
+     */
+    static JournalAddressBookStorage.Position readPosition(DataInputStream in)
+            throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException("Not an address book snapshot");
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException("Unsupported snapshot version: " + version);
+        }
+        long snapshotChecksum = in.readLong();
+        long journalBytes = in.readLong();
+        int recordCount = in.readInt();
+        if (journalBytes < 0 || recordCount < 0) {
+            throw new IllegalValueException("Invalid journal position: " + journalBytes + ", " + recordCount);
+        }
+        return new JournalAddressBookStorage.Position(snapshotChecksum, journalBytes, recordCount);
+    }
+
+    /**
+     * Returns the persons read from {@code in}, after {@link #readPosition}, which holds at most {@code length}
+     * bytes, with their tags in {@code tagRegistry}.
+     *
+     * @throws IOException if {@code in} could not be read, or ends before the snapshot does.
+     * @throws IllegalValueException if {@code in} holds invalid data.
+     */
+    static List<Person> readPersons(DataInputStream in, long length, TagRegistry tagRegistry)
+            throws IOException, IllegalValueException {
+        String[] strings = new String[readCount(in, length)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readCount(in, length)];
+            in.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        Tag[] tags = new Tag[readCount(in, length)];
+        for (int i = 0; i < tags.length; i++) {
+            String tagName = readString(in, strings);
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags[i] = tagRegistry.getTag(tagRegistry.intern(tagName));
+        }
+
+        int personCount = readCount(in, length);
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            persons.add(readPerson(in, strings, tags));
+        }
+        return persons;
+    }
+
+    private static Person readPerson(DataInputStream in, String[] strings, Tag[] tagTable)
+            throws IOException, IllegalValueException {
+        String name = readString(in, strings);
+        String phone = readString(in, strings);
+        String email = readString(in, strings);
+        String address = readString(in, strings);
+        SocialMedia.Platform platform = PLATFORMS[checkIndex(PLATFORMS.length, in.readUnsignedByte())];
+        String handle = readString(in, strings);
+
+        byte scheduleKind = in.readByte();
+        String scheduleName = readString(in, strings);
+        String date = "";
+        String time = "";
+        long instant = Schedule.NO_INSTANT;
+        if (scheduleKind == SCHEDULE_TEXT) {
+            date = readString(in, strings);
+            time = readString(in, strings);
+        } else if (scheduleKind == SCHEDULE_DATE || scheduleKind == SCHEDULE_DATE_TIME) {
+            instant = in.readLong();
+        } else {
+            throw new IllegalValueException("Unknown schedule kind: " + scheduleKind);
+        }
+
+        int tagCount = readCount(in, tagTable.length);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(tagTable[checkIndex(tagTable.length, in.readInt())]);
+        }
+
+        try {
+            Schedule schedule = (scheduleKind == SCHEDULE_TEXT)
+                    ? new Schedule(scheduleName, date, time)
+                    : Schedule.ofInstant(scheduleName, instant, scheduleKind == SCHEDULE_DATE_TIME);
+            return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address), schedule,
+                    new SocialMedia(handle, platform), tags);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private static String readString(DataInputStream in, String[] strings) throws IOException, IllegalValueException {
+        return strings[checkIndex(strings.length, in.readInt())];
+    }
+
+    /**
+     * Returns {@code index} if it is an index of a table of {@code size}.
+     */
+    private static int checkIndex(int size, int index) throws IllegalValueException {
+        if (index < 0 || index >= size) {
+            throw new IllegalValueException("Index out of bounds: " + index);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the count read from {@code in}, which cannot be more than {@code max}, so that a corrupt count is
+     * caught before anything is allocated for it.
+     */
+    private static int readCount(DataInputStream in, long max) throws IOException, IllegalValueException {
+        int count = in.readInt();
+        if (count < 0 || count > max) {
+            throw new IllegalValueException("Count out of bounds: " + count);
+        }
+        return count;
+    }
+}
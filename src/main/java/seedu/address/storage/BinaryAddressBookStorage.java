@@ -0,0 +1,202 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot and journal by a {@code JournalAddressBookStorage},
+ * together with a binary snapshot of it that is faster to read.
+ * The binary snapshot is written only when the json snapshot is rewritten, and when the address book is flushed, e.g.
+ * on exit or before an export, so a save that only appends to the journal does not write the whole address book.
+ * The binary snapshot holds the position in the journal it was taken at, and reading it replays the rest of the
+ * journal onto it, after which saves append to the journal as if the json snapshot had been read.
+ * The json files always hold the data, and can be read, or exported, without the binary snapshot. The binary
+ * snapshot is read instead only when it was written after the json snapshot, so that changes made to that file by
+ * hand are not lost.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final String SNAPSHOT_FILE_SUFFIX = ".snapshot";
+
+    private final JournalAddressBookStorage storage;
+
+    // The location of the data whose binary snapshot holds every change saved there, or null if there is none.
+    private Path flushedPath;
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} keeping a snapshot of the data stored by {@code storage}.
+     */
+    public BinaryAddressBookStorage(JournalAddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the snapshot of the data at {@code filePath}.
+     */
+    public static Path getSnapshotFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SNAPSHOT_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A snapshot that is older than the data, cannot be read, or is not continued by the journal of the data, is
+     * ignored and the data is read instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if the snapshot is ignored and loading the data failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        flushedPath = null;
+        Path snapshotPath = getSnapshotFilePath(filePath);
+        if (isFresherThanData(snapshotPath, filePath)) {
+            try {
+                Optional<ReadOnlyAddressBook> addressBook = readSnapshot(snapshotPath, filePath);
+                if (addressBook.isPresent()) {
+                    return addressBook;
+                }
+                logger.info("Ignoring snapshot " + snapshotPath + ", which the journal does not continue from");
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Ignoring snapshot " + snapshotPath + " that could not be read: " + e);
+            }
+        }
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The snapshot is written too if the json snapshot was rewritten. Failing to write it is only logged, as the data
+     * is already saved by then.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        int snapshotWriteCount = storage.getSnapshotWriteCount();
+        flushedPath = null;
+        storage.saveAddressBook(addressBook, filePath);
+        if (storage.getSnapshotWriteCount() != snapshotWriteCount) {
+            writeSnapshot(addressBook, filePath);
+        }
+    }
+
+    /**
+     * Writes the snapshot of {@code addressBook}, unless it already holds every change saved.
+     * Failing to write it is only logged, as the data is already saved by then.
+     */
+    @Override
+    public void flushAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        Path filePath = storage.getAddressBookFilePath();
+        if (!filePath.equals(flushedPath)) {
+            writeSnapshot(addressBook, filePath);
+        }
+    }
+
+    /**
+     * Returns true if the snapshot at {@code snapshotPath} exists and was written after the json snapshot at
+     * {@code filePath}, which only changes when it is rewritten, or edited by hand.
+     */
+    private static boolean isFresherThanData(Path snapshotPath, Path filePath) {
+        if (!FileUtil.isFileExists(snapshotPath) || !FileUtil.isFileExists(filePath)) {
+            return false;
+        }
+        try {
+            FileTime snapshotTime = Files.getLastModifiedTime(snapshotPath);
+            return snapshotTime.compareTo(Files.getLastModifiedTime(filePath)) >= 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the address book read from the snapshot at {@code snapshotPath}, with the rest of the journal of the
+     * data at {@code filePath} replayed onto it, or an empty {@code Optional} if the journal does not continue from
+     * the snapshot.
+     */
+    private Optional<ReadOnlyAddressBook> readSnapshot(Path snapshotPath, Path filePath)
+            throws IOException, IllegalValueException {
+        long length = Files.size(snapshotPath);
+        JournalAddressBookStorage.Position position;
+        List<Person> persons;
+        AddressBook addressBook = new AddressBook();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            position = BinaryAddressBookFormat.readPosition(in);
+            persons = BinaryAddressBookFormat.readPersons(in, length, addressBook.getTagRegistry());
+        }
+        logger.info("Read snapshot " + snapshotPath + " of " + persons.size() + " persons");
+
+        Optional<ReadOnlyAddressBook> replayed = storage.readAddressBook(filePath, position, persons, addressBook);
+        Optional<JournalAddressBookStorage.Position> journalPosition = storage.getPosition(filePath);
+        if (replayed.isPresent() && journalPosition.isPresent()
+                && journalPosition.get().journalBytes == position.journalBytes) {
+            flushedPath = filePath;
+        }
+        return replayed;
+    }
+
+    /**
+     * Writes the snapshot of {@code addressBook}, as it is at the current position in the journal of the data at
+     * {@code filePath}, to a temporary file, and then moves it over the snapshot, so that a failed write never leaves
+     * a partial snapshot behind. Nothing is written if the journal is to be rewritten by the next save.
+     * Failing to write the snapshot is only logged, as the snapshot left behind is then still valid, or ignored.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) {
+        Optional<JournalAddressBookStorage.Position> position = storage.getPosition(filePath);
+        if (position.isEmpty()) {
+            return;
+        }
+
+        Path snapshotPath = getSnapshotFilePath(filePath);
+        Path temporaryPath = FileUtil.getTemporaryFile(snapshotPath);
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(temporaryPath)))) {
+                BinaryAddressBookFormat.write(addressBook, position.get(), out);
+            }
+            FileUtil.replaceFile(temporaryPath, snapshotPath);
+            flushedPath = filePath;
+        } catch (IOException e) {
+            logger.warning("Failed to write snapshot " + snapshotPath + ": " + e);
+        }
+    }
+}
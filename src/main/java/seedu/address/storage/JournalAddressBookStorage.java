@@ -0,0 +1,634 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot on the hard disk, with the changes made since the
+ * snapshot appended to a journal file next to it.
+ *
+ * Saving through the same storage again compares the persons saved last with the persons to save by identity, and
+ * appends a single line to the journal holding a compact record of each person added, replaced or removed and each
+ * tag renamed, so a save costs time in proportion to the change rather than to the address book. Reading the
+ * snapshot replays the journal onto it. The snapshot is rewritten and the journal cleared once the journal grows too
+ * long, or when a save changes most of the persons at once.
+ *
+ * The snapshot is in the same format as the file of a {@link JsonAddressBookStorage}. The journal starts with the
+ * checksum of the snapshot it applies to, so a journal left behind by a snapshot that has since been rewritten is
+ * ignored. A line cut short by a crash while it was appended is ignored, along with the changes of that save.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    static final String MESSAGE_INVALID_RECORD = "Journal record %1$d is invalid: %2$s";
+
+    // The snapshot is rewritten once the journal holds more records than this, or is both larger than the minimum
+    // size and larger than half the snapshot, which bounds the extra time spent replaying the journal on reading.
+    private static final int MAX_JOURNAL_RECORDS = 10_000;
+    private static final long MIN_JOURNAL_BYTES_TO_COMPACT = 64 * 1024;
+
+    // Prefix of the names that tags are renamed to while several tags are renamed at once. Tag names are
+    // alphanumeric, so no tag can already have such a name.
+    private static final String TEMPORARY_TAG_NAME_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    // Journals are replayed onto the persons as read from the snapshot, or onto persons of the model, e.g. as read
+    // from a faster copy of the data. Journals rename tags by name, which persons of the model do not hold, so a
+    // journal renaming tags is replayed onto the snapshot instead.
+    private static final PersonReplayer<JsonAdaptedPerson> JSON_REPLAYER = new PersonReplayer<>() {
+        @Override
+        public JsonAdaptedPerson toPerson(JsonAdaptedPerson person) {
+            return person;
+        }
+
+        @Override
+        public boolean renameTag(List<JsonAdaptedPerson> persons, String from, String to) {
+            persons.replaceAll(person -> person.withTagRenamed(from, to));
+            return true;
+        }
+    };
+
+    private Path filePath;
+
+    // The snapshot whose journal later saves append to, or null if the next save must rewrite the snapshot, and the
+    // persons and tag names as they were when last read or saved.
+    private Path journaledPath;
+    private List<Person> savedPersons = new ArrayList<>();
+    // Keyed by the shared instances of the tags, whose hash changes when they are renamed.
+    private final Map<Tag, String> savedTagNames = new IdentityHashMap<>();
+    private long snapshotChecksum;
+    private long snapshotBytes;
+    private long journalBytes;
+    private int journalRecordCount;
+    private int snapshotWriteCount;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if the snapshot or a complete line of the journal could not be read, or the data
+     *     in them is invalid.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        // the snapshot is streamed from the file, and checksummed on the way
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        CheckedInputStream snapshot;
+        long snapshotSize;
+        try {
+            snapshotSize = Files.size(filePath);
+            snapshot = new CheckedInputStream(Files.newInputStream(filePath), new CRC32());
+            JsonAddressBookStorage.readPersons(snapshot, persons::add);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        AddressBook addressBook;
+        boolean canAppend;
+        long checksum = snapshot.getChecksum().getValue();
+        try {
+            canAppend = replayJournal(getJournalFilePath(filePath), new Position(checksum, 0, 0), persons,
+                    JSON_REPLAYER) == Replay.COMPLETE;
+            addressBook = new JsonSerializableAddressBook(persons).toModelType();
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + getJournalFilePath(filePath) + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        snapshotChecksum = checksum;
+        snapshotBytes = snapshotSize;
+        rememberSaved(addressBook);
+        journaledPath = canAppend ? filePath : null;
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}, but starts from {@code persons}, the persons as they were at
+     * {@code position} in the journal, e.g. as read from a faster copy of the data, and so skips reading the snapshot.
+     * The persons, with their tags in the registry of the empty {@code addressBook}, are replayed into it.
+     * Later saves append to the journal as if the snapshot had been read.
+     *
+     * @return the address book, or an empty {@code Optional} if the journal does not continue from {@code position},
+     *     or holds changes that can only be replayed onto the snapshot, so that the snapshot must be read instead.
+     * @throws IOException if the journal could not be read.
+     * @throws IllegalValueException if a complete line of the journal, or the resulting persons, are invalid.
+     */
+    Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, Position position, List<Person> persons,
+            AddressBook addressBook) throws IOException, IllegalValueException {
+        requireAllNonNull(filePath, position, persons, addressBook);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        List<Person> replayed = new ArrayList<>(persons);
+        Replay replay = replayJournal(getJournalFilePath(filePath), position, replayed,
+                getModelReplayer(addressBook.getTagRegistry()));
+        if (replay == Replay.NOT_APPLICABLE) {
+            return Optional.empty();
+        }
+
+        try {
+            addressBook.setPersons(replayed);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(JsonSerializableAddressBook.getDuplicatePersonMessage(dpe), dpe);
+        }
+        snapshotChecksum = position.snapshotChecksum;
+        snapshotBytes = Files.size(filePath);
+        rememberSaved(addressBook);
+        journaledPath = (replay == Replay.COMPLETE) ? filePath : null;
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns the position the journal of the snapshot at {@code filePath} has reached, or an empty {@code Optional}
+     * if the next save there rewrites the snapshot, e.g. as the journal was not read or saved by this storage.
+     */
+    Optional<Position> getPosition(Path filePath) {
+        if (!filePath.equals(journaledPath)) {
+            return Optional.empty();
+        }
+        return Optional.of(new Position(snapshotChecksum, journalBytes, journalRecordCount));
+    }
+
+    /**
+     * Returns the number of times this storage has rewritten a snapshot, and started a new journal for it.
+     */
+    int getSnapshotWriteCount() {
+        return snapshotWriteCount;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path journalPath = getJournalFilePath(filePath);
+        if (!filePath.equals(journaledPath) || !Files.exists(journalPath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        List<JsonJournalRecord> records = createRenameRecords(addressBook);
+        if (!addPersonRecords(addressBook, records)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+
+        byte[] line = (JsonUtil.toCompactJsonString(records) + "\n").getBytes(StandardCharsets.UTF_8);
+        if (journalRecordCount + records.size() > MAX_JOURNAL_RECORDS || isTooLarge(journalBytes + line.length)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        journaledPath = null;
+        Files.write(journalPath, line, StandardOpenOption.APPEND);
+        journaledPath = filePath;
+        journalBytes += line.length;
+        journalRecordCount += records.size();
+        savedPersons = keepPersons(addressBook);
+    }
+
+    /**
+     * Returns the records that rename the tags whose names in {@code addressBook} differ from those saved last.
+     */
+    private List<JsonJournalRecord> createRenameRecords(ReadOnlyAddressBook addressBook) {
+        List<Tag> renamedTags = new ArrayList<>();
+        for (Map.Entry<Tag, String> savedName : savedTagNames.entrySet()) {
+            if (!addressBook.getTagName(savedName.getKey()).equals(savedName.getValue())) {
+                renamedTags.add(savedName.getKey());
+            }
+        }
+
+        List<JsonJournalRecord> records = new ArrayList<>();
+        if (renamedTags.size() == 1) {
+            Tag tag = renamedTags.get(0);
+            records.add(JsonJournalRecord.rename(savedTagNames.get(tag), addressBook.getTagName(tag)));
+        } else {
+            // each tag is renamed through a temporary name, as a tag may have taken the old name of another
+            for (int i = 0; i < renamedTags.size(); i++) {
+                records.add(JsonJournalRecord.rename(savedTagNames.get(renamedTags.get(i)),
+                        TEMPORARY_TAG_NAME_PREFIX + i));
+            }
+            for (int i = 0; i < renamedTags.size(); i++) {
+                records.add(JsonJournalRecord.rename(TEMPORARY_TAG_NAME_PREFIX + i,
+                        addressBook.getTagName(renamedTags.get(i))));
+            }
+        }
+        for (Tag tag : renamedTags) {
+            savedTagNames.put(tag, addressBook.getTagName(tag));
+        }
+        return records;
+    }
+
+    /**
+     * Adds to {@code records} the records that change the persons saved last into those of {@code addressBook},
+     * comparing persons by identity. Persons before the first and after the last changed person are skipped. Between
+     * them, persons in both lists are kept, and the others are removed, added, or replaced where one is removed and
+     * another added at the same position.
+     *
+     * @return false, without adding any records, if the records would change most of the persons, or the persons in
+     *     both lists are in a different order, so that rewriting the snapshot is cheaper.
+     */
+    private boolean addPersonRecords(ReadOnlyAddressBook addressBook, List<JsonJournalRecord> records) {
+        List<Person> persons = addressBook.getPersonList();
+        int savedSize = savedPersons.size();
+        int size = persons.size();
+        int commonSize = Math.min(savedSize, size);
+
+        int start = 0;
+        while (start < commonSize && savedPersons.get(start) == persons.get(start)) {
+            start++;
+        }
+        int endOffset = 0;
+        while (endOffset < commonSize - start
+                && savedPersons.get(savedSize - 1 - endOffset) == persons.get(size - 1 - endOffset)) {
+            endOffset++;
+        }
+        List<Person> savedChanged = savedPersons.subList(start, savedSize - endOffset);
+        List<Person> changed = persons.subList(start, size - endOffset);
+        if (savedChanged.isEmpty() && changed.isEmpty()) {
+            return true;
+        }
+
+        Set<Person> inSaved = Collections.newSetFromMap(new IdentityHashMap<>());
+        inSaved.addAll(savedChanged);
+        Set<Person> inCurrent = Collections.newSetFromMap(new IdentityHashMap<>());
+        inCurrent.addAll(changed);
+
+        int maxRecordCount = Math.max(1, size / 2);
+        List<JsonJournalRecord> personRecords = new ArrayList<>();
+        int savedIndex = 0;
+        int index = 0;
+        while (savedIndex < savedChanged.size() || index < changed.size()) {
+            boolean isRemoved = savedIndex < savedChanged.size() && !inCurrent.contains(savedChanged.get(savedIndex));
+            boolean isAdded = index < changed.size() && !inSaved.contains(changed.get(index));
+            if (isRemoved && isAdded) {
+                personRecords.add(JsonJournalRecord.set(start + index, changed.get(index), addressBook::getTagName));
+                savedIndex++;
+                index++;
+            } else if (isRemoved) {
+                personRecords.add(JsonJournalRecord.delete(start + index));
+                savedIndex++;
+            } else if (isAdded) {
+                personRecords.add(JsonJournalRecord.add(start + index, changed.get(index), addressBook::getTagName));
+                index++;
+            } else if (savedIndex < savedChanged.size() && index < changed.size()
+                    && savedChanged.get(savedIndex) == changed.get(index)) {
+                savedIndex++;
+                index++;
+            } else {
+                return false;
+            }
+            if (personRecords.size() > maxRecordCount) {
+                return false;
+            }
+        }
+
+        for (Person person : changed) {
+            if (!inSaved.contains(person)) {
+                rememberTagNames(person, addressBook);
+            }
+        }
+        records.addAll(personRecords);
+        return true;
+    }
+
+    /**
+     * Rewrites the snapshot at {@code filePath} with {@code addressBook}, and starts a new journal for it.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        journaledPath = null;
+        // the snapshot is streamed to a temporary file and checksummed on the way, and then moved over the old one,
+        // whose journal no longer applies once the header below is written
+        Path temporaryPath = FileUtil.getTemporaryFile(filePath);
+        FileUtil.createParentDirsOfFile(temporaryPath);
+        CheckedOutputStream snapshot = new CheckedOutputStream(Files.newOutputStream(temporaryPath), new CRC32());
+        JsonAddressBookStorage.writeAddressBook(addressBook, snapshot);
+        long checksum = snapshot.getChecksum().getValue();
+        FileUtil.replaceFile(temporaryPath, filePath);
+
+        byte[] header = (JsonUtil.toCompactJsonString(List.of(JsonJournalRecord.snapshot(checksum))) + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        Files.write(getJournalFilePath(filePath), header);
+
+        snapshotChecksum = checksum;
+        snapshotBytes = Files.size(filePath);
+        journalBytes = header.length;
+        journalRecordCount = 0;
+        snapshotWriteCount++;
+        rememberSaved(addressBook);
+        journaledPath = filePath;
+        logger.fine("Rewrote snapshot " + filePath + " of " + snapshotBytes + " bytes");
+    }
+
+    /**
+     * Applies the changes in the journal at {@code journalPath} after {@code from} to {@code persons}, if the journal
+     * applies to the snapshot {@code from} is in, and records how far the journal goes.
+     *
+     * @return whether the journal ends with a complete line, so that later saves can append to it, or an incomplete
+     *     one, or does not continue from {@code from}, e.g. as it is missing or applies to another snapshot, in which
+     *     case {@code persons} are left in an unspecified state.
+     * @throws IllegalValueException if a complete line of the journal is invalid.
+     */
+    private <T> Replay replayJournal(Path journalPath, Position from, List<T> persons, PersonReplayer<T> replayer)
+            throws IOException, IllegalValueException {
+        journalBytes = 0;
+        journalRecordCount = 0;
+        if (!Files.exists(journalPath)) {
+            return Replay.NOT_APPLICABLE;
+        }
+
+        // the journal is read one line at a time, and every line ends with a line break when it is complete
+        try (InputStream journal = new BufferedInputStream(Files.newInputStream(journalPath))) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            if (!readLine(journal, line)
+                    || !isHeaderOf(line.toString(StandardCharsets.UTF_8), from.snapshotChecksum)) {
+                logger.info("Ignoring journal " + journalPath + ", which does not apply to the current snapshot");
+                return Replay.NOT_APPLICABLE;
+            }
+            long bytesRead = line.size() + 1;
+
+            // the lines before the position were replayed already, so they are skipped without parsing them
+            while (bytesRead < from.journalBytes) {
+                if (!readLine(journal, line)) {
+                    return Replay.NOT_APPLICABLE;
+                }
+                bytesRead += line.size() + 1;
+            }
+            if (from.journalBytes > 0 && bytesRead != from.journalBytes) {
+                return Replay.NOT_APPLICABLE;
+            }
+
+            int recordCount = from.recordCount;
+            while (readLine(journal, line)) {
+                bytesRead += line.size() + 1;
+                JsonJournalRecord[] records;
+                try {
+                    records = JsonUtil.fromJsonString(line.toString(StandardCharsets.UTF_8), JsonJournalRecord[].class);
+                } catch (IOException e) {
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, recordCount,
+                            e.getMessage()));
+                }
+                for (JsonJournalRecord record : records) {
+                    if (!applyRecord(record, recordCount, persons, replayer)) {
+                        return Replay.NOT_APPLICABLE;
+                    }
+                    recordCount++;
+                }
+            }
+
+            boolean isComplete = line.size() == 0;
+            if (!isComplete) {
+                logger.warning("Ignoring the incomplete last line of journal " + journalPath);
+            }
+            journalBytes = bytesRead + line.size();
+            journalRecordCount = recordCount;
+            return isComplete ? Replay.COMPLETE : Replay.INCOMPLETE;
+        }
+    }
+
+    /**
+     * Reads the bytes of {@code in} up to the next line break into {@code line}, replacing what it held, and leaves
+     * the line break out.
+     *
+     * @return true if the line ends with a line break, or false if {@code in} ended first.
+     */
+    private static boolean readLine(InputStream in, ByteArrayOutputStream line) throws IOException {
+        line.reset();
+        for (int b = in.read(); b != -1; b = in.read()) {
+            if (b == '\n') {
+                return true;
+            }
+            line.write(b);
+        }
+        return false;
+    }
+
+    private static boolean isHeaderOf(String line, long snapshotChecksum) {
+        try {
+            JsonJournalRecord[] header = JsonUtil.fromJsonString(line, JsonJournalRecord[].class);
+            return header.length == 1 && JsonJournalRecord.SNAPSHOT.equals(header[0].getOp())
+                    && Long.valueOf(snapshotChecksum).equals(header[0].getChecksum());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Applies {@code record}, the record at {@code position} in the journal, to {@code persons}.
+     *
+     * @return false, if the record cannot be applied by {@code replayer}.
+     * @throws IllegalValueException if the record is incomplete or does not fit {@code persons}.
+     */
+    private static <T> boolean applyRecord(JsonJournalRecord record, int position, List<T> persons,
+            PersonReplayer<T> replayer) throws IllegalValueException {
+        String op = String.valueOf(record.getOp());
+        switch (op) {
+        case JsonJournalRecord.ADD:
+            int addIndex = checkIndex(record, position, persons.size() + 1);
+            persons.add(addIndex, replayer.toPerson(checkPerson(record, position)));
+            return true;
+        case JsonJournalRecord.SET:
+            int setIndex = checkIndex(record, position, persons.size());
+            persons.set(setIndex, replayer.toPerson(checkPerson(record, position)));
+            return true;
+        case JsonJournalRecord.DELETE:
+            persons.remove(checkIndex(record, position, persons.size()));
+            return true;
+        case JsonJournalRecord.RENAME:
+            if (record.getFrom() == null || record.getTo() == null) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, position, "missing tag name"));
+            }
+            return replayer.renameTag(persons, record.getFrom(), record.getTo());
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, position, "unknown op " + op));
+        }
+    }
+
+    private static int checkIndex(JsonJournalRecord record, int position, int bound) throws IllegalValueException {
+        Integer index = record.getIndex();
+        if (index == null || index < 0 || index >= bound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, position,
+                    "index " + index + " is outside the " + bound + " possible positions"));
+        }
+        return index;
+    }
+
+    private static JsonAdaptedPerson checkPerson(JsonJournalRecord record, int position)
+            throws IllegalValueException {
+        if (record.getPerson() == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, position, "missing person"));
+        }
+        return record.getPerson();
+    }
+
+    /**
+     * Returns how the records of a journal are applied to persons of the model, with their tags in
+     * {@code tagRegistry}.
+     */
+    private static PersonReplayer<Person> getModelReplayer(TagRegistry tagRegistry) {
+        return new PersonReplayer<>() {
+            @Override
+            public Person toPerson(JsonAdaptedPerson person) throws IllegalValueException {
+                return person.toModelType(tagRegistry);
+            }
+
+            @Override
+            public boolean renameTag(List<Person> persons, String from, String to) {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Remembers the persons of {@code addressBook} and the names of their tags as those saved last.
+     */
+    private void rememberSaved(ReadOnlyAddressBook addressBook) {
+        savedPersons = keepPersons(addressBook);
+        savedTagNames.clear();
+        savedPersons.forEach(person -> rememberTagNames(person, addressBook));
+    }
+
+    private void rememberTagNames(Person person, ReadOnlyAddressBook addressBook) {
+        for (Tag tag : person.getTags()) {
+            savedTagNames.put(tag, addressBook.getTagName(tag));
+        }
+    }
+
+    /**
+     * Returns the persons of {@code addressBook} as a list that later changes to the address book do not affect.
+     */
+    private static List<Person> keepPersons(ReadOnlyAddressBook addressBook) {
+        // a snapshot never changes, so its persons are kept without copying them
+        if (addressBook instanceof AddressBookSnapshot) {
+            return addressBook.getPersonList();
+        }
+        return new ArrayList<>(addressBook.getPersonList());
+    }
+
+    private boolean isTooLarge(long journalSize) {
+        return journalSize > MIN_JOURNAL_BYTES_TO_COMPACT && journalSize > snapshotBytes / 2;
+    }
+
+    /**
+     * A position in the journal of a snapshot: the checksum of the snapshot, and the bytes and records of the journal
+     * up to the position.
+     */
+    static class Position {
+        final long snapshotChecksum;
+        final long journalBytes;
+        final int recordCount;
+
+        Position(long snapshotChecksum, long journalBytes, int recordCount) {
+            this.snapshotChecksum = snapshotChecksum;
+            this.journalBytes = journalBytes;
+            this.recordCount = recordCount;
+        }
+    }
+
+    /**
+     * How a journal replayed onto a list of persons ends.
+     */
+    private enum Replay {
+        /** With a complete line, so that later saves can append to it. */
+        COMPLETE,
+        /** With an incomplete line, which is ignored. */
+        INCOMPLETE,
+        /** Before it is replayed, as it does not continue from where the persons are. */
+        NOT_APPLICABLE
+    }
+
+    /**
+     * Represents how the records of a journal are applied to a list of persons of type {@code T}.
+     */
+    private interface PersonReplayer<T> {
+        /**
+         * Returns {@code person}, as read from a record, as an element of the list.
+         *
+         * @throws IllegalValueException if there were any data constraints violated in {@code person}.
+         */
+        T toPerson(JsonAdaptedPerson person) throws IllegalValueException;
+
+        /**
+         * Renames the tag named {@code from} to {@code to} for every person in {@code persons}.
+         *
+         * @return false, without renaming anything, if tags cannot be renamed in persons of type {@code T}.
+         */
+        boolean renameTag(List<T> persons, String from, String to);
+    }
+}
@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -18,6 +20,7 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.person.Schedule;
 import seedu.address.model.person.SocialMedia;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 
 /**
  * Jackson-friendly version of {@link Person}.
@@ -63,6 +66,13 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        this(source, Tag::getTagName);
+    }
+
+    /**
+     * Converts a given {@code Person} into this class for Jackson use, naming its tags with {@code tagNames}.
+     */
+    public JsonAdaptedPerson(Person source, Function<Tag, String> tagNames) {
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -71,78 +81,80 @@ class JsonAdaptedPerson {
         date = source.getSchedule().dateString;
         time = source.getSchedule().timeString;
         tags.addAll(source.getTags().stream()
-                .map(JsonAdaptedTag::new)
+                .map(tag -> new JsonAdaptedTag(tagNames.apply(tag)))
                 .collect(Collectors.toList()));
         socialMedia = source.getSocialMedia().toString();
     }
 
+    /**
+     * Returns this person with its tag named {@code from} renamed to {@code to}, or this person if it has no such tag.
+     */
+    JsonAdaptedPerson withTagRenamed(String from, String to) {
+        if (tags.stream().noneMatch(tag -> from.equals(tag.getTagName()))) {
+            return this;
+        }
+        List<JsonAdaptedTag> renamedTags = tags.stream()
+                .map(tag -> from.equals(tag.getTagName()) ? new JsonAdaptedTag(to) : tag)
+                .collect(Collectors.toList());
+        return new JsonAdaptedPerson(name, phone, email, address, scheduleName, date, time, renamedTags,
+                socialMedia);
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(new TagRegistry());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, with its tags in
+     * {@code tagRegistry}, e.g. that of the address book the person is read into.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toModelType(TagRegistry tagRegistry) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
-            personTags.add(tag.toModelType());
+            personTags.add(tag.toModelType(tagRegistry));
         }
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
+        final Name modelName = toModelField(() -> new Name(name));
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = toModelField(() -> new Phone(phone));
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = toModelField(() -> new Email(email));
 
         if (address == null) {
             throw new IllegalValueException(String.format(
                     MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
-        if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-        }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = toModelField(() -> new Address(address));
 
         if (scheduleName == null) {
             throw new IllegalValueException(String.format(
                     MISSING_FIELD_MESSAGE_FORMAT, Schedule.class.getSimpleName()));
         }
-        if (!Schedule.isValidName(scheduleName)) {
-            throw new IllegalValueException(Schedule.SCHEDULE_NAME_CONSTRAINTS);
-        }
         if (date == null) {
             throw new IllegalValueException(String.format(
                     MISSING_FIELD_MESSAGE_FORMAT, Schedule.class.getSimpleName()));
         }
-        if (!Schedule.isValidDate(date)) {
-            throw new IllegalValueException(Schedule.DATE_CONSTRAINTS);
-        }
-
         if (time == null) {
             throw new IllegalValueException(String.format(
                     MISSING_FIELD_MESSAGE_FORMAT, Schedule.class.getSimpleName()));
         }
-        if (!Schedule.isValidTime(time)) {
-            throw new IllegalValueException(Schedule.TIME_CONSTRAINTS);
-        }
-        final Schedule schedule = new Schedule(scheduleName, date, time);
+        final Schedule schedule = toModelField(() -> new Schedule(scheduleName, date, time));
 
         if (socialMedia == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -150,34 +162,38 @@ class JsonAdaptedPerson {
         }
         final SocialMedia modelSocialMedia;
         if (!socialMedia.equals(" ")) {
+            String handle = socialMedia.substring(4, socialMedia.length() - 1);
+            SocialMedia.Platform platform;
             if (socialMedia.startsWith("[ig-")) {
-                if (!SocialMedia.isValidHandleName(socialMedia.substring(4, socialMedia.length() - 1))) {
-                    throw new IllegalValueException(SocialMedia.MESSAGE_CONSTRAINTS);
-                }
-                modelSocialMedia = new SocialMedia(socialMedia.substring(4, socialMedia.length() - 1),
-                        SocialMedia.Platform.INSTAGRAM);
+                platform = SocialMedia.Platform.INSTAGRAM;
             } else if (socialMedia.startsWith("[fb-")) {
-                if (!SocialMedia.isValidHandleName(socialMedia.substring(4, socialMedia.length() - 1))) {
-                    throw new IllegalValueException(SocialMedia.MESSAGE_CONSTRAINTS);
-                }
-                modelSocialMedia = new SocialMedia(socialMedia.substring(4, socialMedia.length() - 1),
-                        SocialMedia.Platform.FACEBOOK);
+                platform = SocialMedia.Platform.FACEBOOK;
             } else {
-                if (!SocialMedia.isValidHandleName(socialMedia.substring(4, socialMedia.length() - 1))) {
-                    throw new IllegalValueException(SocialMedia.MESSAGE_CONSTRAINTS);
-                }
-                modelSocialMedia = new SocialMedia(socialMedia.substring(4, socialMedia.length() - 1),
-                        SocialMedia.Platform.CAROUSELL);
+                platform = SocialMedia.Platform.CAROUSELL;
             }
+            modelSocialMedia = toModelField(() -> new SocialMedia(handle, platform));
         } else {
             modelSocialMedia = new SocialMedia(" ", SocialMedia.Platform.UNNAMED);
         }
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
-        Person person = new Person(modelName, modelPhone, modelEmail, modelAddress,
+        return new Person(modelName, modelPhone, modelEmail, modelAddress,
                 schedule, modelSocialMedia, modelTags);
-        person.setSocialMedia(modelSocialMedia);
-        return person;
+    }
+
+    /**
+     * Returns the field made by {@code constructor}, which validates the value it is given.
+     * Values are validated only by the constructors, rather than checked beforehand as well, so that loading a person
+     * validates each value once.
+     *
+     * @throws IllegalValueException with the constraints of the field if the value is not valid.
+     */
+    private static <T> T toModelField(Supplier<T> constructor) throws IllegalValueException {
+        try {
+            return constructor.get();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
     }
 }
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 
 /**
  * Jackson-friendly version of {@link Tag}.
@@ -45,4 +46,17 @@ class JsonAdaptedTag {
         return new Tag(tagName);
     }
 
+    /**
+     * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object in {@code tagRegistry},
+     * interning its name there.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
+     */
+    public Tag toModelType(TagRegistry tagRegistry) throws IllegalValueException {
+        if (!Tag.isValidTagName(tagName)) {
+            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+        }
+        return tagRegistry.getTag(tagRegistry.intern(tagName));
+    }
+
 }
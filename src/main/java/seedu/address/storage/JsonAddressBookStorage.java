@@ -3,24 +3,40 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written as a stream, one person at a time, so it is never held in memory as a whole.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String PERSONS_FIELD = "persons";
+
     private Path filePath;
 
     public JsonAddressBookStorage(Path filePath) {
@@ -44,21 +60,78 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
-
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(readAddressBook(Files.newInputStream(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Reads the address book in JSON from {@code in}, converting each person as soon as it is read,
+     * and closes {@code in}.
+     * Fields other than the persons are ignored.
+     *
+     * @throws IOException if {@code in} could not be read or does not hold an address book in JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook readAddressBook(InputStream in) throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        List<Person> persons = new ArrayList<>();
+        readPersons(in, person -> persons.add(person.toModelType(addressBook.getTagRegistry())));
+
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(JsonSerializableAddressBook.getDuplicatePersonMessage(dpe), dpe);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the address book in JSON from {@code in}, passing each person to {@code handler} as soon as it is read,
+     * and closes {@code in}. Fields other than the persons are ignored.
+     * Any input after the address book is read too, so that a checksum of {@code in} covers all of it.
+     *
+     * @throws IOException if {@code in} could not be read or does not hold an address book in JSON.
+     * @throws IllegalValueException if {@code handler} found any data constraints violated.
+     */
+    static void readPersons(InputStream in, PersonHandler handler) throws IOException, IllegalValueException {
+        try (in; JsonParser parser = JsonUtil.createParser(in)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean isPersons = PERSONS_FIELD.equals(parser.getCurrentName());
+                JsonToken value = parser.nextToken();
+                if (!isPersons || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                expect(parser, value, JsonToken.START_ARRAY);
+                for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                    expect(parser, token, JsonToken.START_OBJECT);
+                    handler.handle(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+                }
+            }
+            expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -66,6 +139,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The address book is written to a temporary file first, and then moved over {@code filePath}, so that a failed
+     * write never leaves the data file truncated.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +148,38 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        Path temporaryPath = FileUtil.getTemporaryFile(filePath);
+        FileUtil.createParentDirsOfFile(temporaryPath);
+        writeAddressBook(addressBook, Files.newOutputStream(temporaryPath));
+        FileUtil.replaceFile(temporaryPath, filePath);
+    }
+
+    /**
+     * Writes {@code addressBook} in compact JSON to {@code out}, converting each person only as it is written,
+     * and closes {@code out}.
+     */
+    static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedPerson(person, addressBook::getTagName));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
     }
 
+    /**
+     * Represents an action on each person read by {@link #readPersons}.
+     */
+    @FunctionalInterface
+    interface PersonHandler {
+        /**
+         * Handles {@code person}, which was just read.
+         *
+         * @throws IllegalValueException if there were any data constraints violated in {@code person}.
+         */
+        void handle(JsonAdaptedPerson person) throws IllegalValueException;
+    }
 }
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Jackson-friendly version of a single change recorded in the journal of a {@link JournalAddressBookStorage}.
+ * Persons are identified by their position in the person list, as it is after the records before them are applied.
+ * Fields that a kind of record does not use are left null and are not written.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonJournalRecord {
+
+    /** Starts a journal, recording the checksum of the snapshot the journal applies to. */
+    static final String SNAPSHOT = "snapshot";
+    /** Inserts a person at a position, shifting later persons back. */
+    static final String ADD = "add";
+    /** Replaces the person at a position. */
+    static final String SET = "set";
+    /** Removes the person at a position, shifting later persons forward. */
+    static final String DELETE = "delete";
+    /** Renames a tag for every person that has it. */
+    static final String RENAME = "rename";
+
+    private final String op;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+    private final String from;
+    private final String to;
+    private final Long checksum;
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("op") String op, @JsonProperty("index") Integer index,
+                             @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("from") String from,
+                             @JsonProperty("to") String to, @JsonProperty("checksum") Long checksum) {
+        this.op = op;
+        this.index = index;
+        this.person = person;
+        this.from = from;
+        this.to = to;
+        this.checksum = checksum;
+    }
+
+    static JsonJournalRecord snapshot(long checksum) {
+        return new JsonJournalRecord(SNAPSHOT, null, null, null, null, checksum);
+    }
+
+    static JsonJournalRecord add(int index, Person person, Function<Tag, String> tagNames) {
+        return new JsonJournalRecord(ADD, index, new JsonAdaptedPerson(person, tagNames), null, null, null);
+    }
+
+    static JsonJournalRecord set(int index, Person person, Function<Tag, String> tagNames) {
+        return new JsonJournalRecord(SET, index, new JsonAdaptedPerson(person, tagNames), null, null, null);
+    }
+
+    static JsonJournalRecord delete(int index) {
+        return new JsonJournalRecord(DELETE, index, null, null, null, null);
+    }
+
+    static JsonJournalRecord rename(String from, String to) {
+        return new JsonJournalRecord(RENAME, null, null, from, to, null);
+    }
+
+    String getOp() {
+        return op;
+    }
+
+    Integer getIndex() {
+        return index;
+    }
+
+    JsonAdaptedPerson getPerson() {
+        return person;
+    }
+
+    String getFrom() {
+        return from;
+    }
+
+    String getTo() {
+        return to;
+    }
+
+    Long getChecksum() {
+        return checksum;
+    }
+}
@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -37,7 +38,9 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        persons.addAll(source.getPersonList().stream()
+                .map(person -> new JsonAdaptedPerson(person, source::getTagName))
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -47,14 +50,26 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            modelPersons.add(jsonAdaptedPerson.toModelType(addressBook.getTagRegistry()));
+        }
+
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(getDuplicatePersonMessage(dpe), dpe);
         }
         return addressBook;
     }
 
+    /**
+     * Returns the message reporting the names of the persons that {@code dpe} found to be duplicates.
+     */
+    static String getDuplicatePersonMessage(DuplicatePersonException dpe) {
+        return MESSAGE_DUPLICATE_PERSON + " Duplicate names: " + dpe.getDuplicatePersons().stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", "));
+    }
+
 }
@@ -29,4 +29,15 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Writes all of {@code addressBook} to {@code backupFilePath} as a standalone json file, which can be read
+     * without any other file of the storage.
+     */
+    void backupAddressBook(ReadOnlyAddressBook addressBook, Path backupFilePath) throws IOException;
+
+    /**
+     * Returns the number of times saving the address book was skipped, as the same version of it had been saved last.
+     */
+    int getSkippedSaveCount();
+
 }
@@ -20,6 +20,11 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    // The version and location of the address book saved last, so that saving it again unchanged can be skipped.
+    private long savedVersion = ReadOnlyAddressBook.UNTRACKED_VERSION;
+    private Path savedFilePath;
+    private int skippedSaveCount;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -69,10 +74,42 @@ public class StorageManager implements Storage {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * Saves {@code addressBook} to {@code filePath}, unless the same version of it was the last saved there.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        long version = addressBook.getVersion();
+        if (version != ReadOnlyAddressBook.UNTRACKED_VERSION && version == savedVersion
+                && filePath.equals(savedFilePath)) {
+            skippedSaveCount++;
+            logger.fine("Skipped writing unchanged data to file: " + filePath
+                    + " (" + skippedSaveCount + " saves skipped)");
+            return;
+        }
+
         logger.fine("Attempting to write to data file: " + filePath);
+        // if the save fails, the file may hold neither version, so the next save must not be skipped
+        savedVersion = ReadOnlyAddressBook.UNTRACKED_VERSION;
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        savedVersion = version;
+        savedFilePath = filePath;
+    }
+
+    @Override
+    public void flushAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        addressBookStorage.flushAddressBook(addressBook);
+    }
+
+    @Override
+    public void backupAddressBook(ReadOnlyAddressBook addressBook, Path backupFilePath) throws IOException {
+        logger.fine("Attempting to write backup file: " + backupFilePath);
+        new JsonAddressBookStorage(backupFilePath).saveAddressBook(addressBook);
+    }
+
+    @Override
+    public int getSkippedSaveCount() {
+        return skippedSaveCount;
     }
 
 }
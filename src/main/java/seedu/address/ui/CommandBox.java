@@ -1,8 +1,13 @@
 package seedu.address.ui;
 
+import java.util.Collections;
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -10,6 +15,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Pressing TAB completes the last word of the input to the full name of a matching person, and pressing it again
+ * cycles through the other matching persons.
  */
 public class CommandBox extends UiPart<Region> {
 
@@ -17,18 +24,64 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final NameSuggester nameSuggester;
+
+    // State of the completion being cycled through, cleared whenever the user edits the text.
+    private String textBeforeCompletion;
+    private List<String> suggestions = Collections.emptyList();
+    private int suggestionIndex;
+    private boolean isCompleting;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code NameSuggester}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, NameSuggester nameSuggester) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.nameSuggester = nameSuggester;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            if (!isCompleting) {
+                suggestions = Collections.emptyList();
+            }
+        });
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                handleCompletionRequested();
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Handles the TAB button pressed event by completing the last word of the input to a matching name.
+     */
+    private void handleCompletionRequested() {
+        if (suggestions.isEmpty()) {
+            String commandText = commandTextField.getText();
+            int wordStart = commandText.lastIndexOf(' ') + 1;
+            String prefix = commandText.substring(wordStart);
+            if (prefix.isEmpty()) {
+                return;
+            }
+            suggestions = nameSuggester.suggest(prefix);
+            if (suggestions.isEmpty()) {
+                return;
+            }
+            textBeforeCompletion = commandText.substring(0, wordStart);
+            suggestionIndex = 0;
+        } else {
+            suggestionIndex = (suggestionIndex + 1) % suggestions.size();
+        }
+
+        isCompleting = true;
+        commandTextField.setText(textBeforeCompletion + suggestions.get(suggestionIndex));
+        commandTextField.positionCaret(commandTextField.getText().length());
+        isCompleting = false;
     }
 
     /**
@@ -82,4 +135,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that suggests names to complete a partially typed word.
+     */
+    @FunctionalInterface
+    public interface NameSuggester {
+        /**
+         * Returns the full names of persons with a name word starting with {@code prefix}.
+         *
+         * @see seedu.address.logic.Logic#getNameSuggestions(String)
+         */
+        List<String> suggest(String prefix);
+    }
+
 }
@@ -9,6 +9,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagRegistry;
 
 /**
  * Panel containing the list of persons.
@@ -20,13 +21,27 @@ public class PersonListPanel extends UiPart<Region> {
     @FXML
     private ListView<Person> personListView;
 
+    private final TagRegistry tagRegistry;
+    // A renamed tag changes how persons are displayed without changing the list itself.
+    private final TagRegistry.RenameListener renameListener = (id, oldName, newName) -> personListView.refresh();
+
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}, refreshed whenever a tag is renamed in
+     * {@code tagRegistry}.
      */
-    public PersonListPanel(ObservableList<Person> personList) {
+    public PersonListPanel(ObservableList<Person> personList, TagRegistry tagRegistry) {
         super(FXML);
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
+        this.tagRegistry = tagRegistry;
+        tagRegistry.addRenameListener(renameListener);
+    }
+
+    /**
+     * Stops refreshing this panel when a tag is renamed, so that the registry no longer holds on to it.
+     */
+    public void dispose() {
+        tagRegistry.removeRenameListener(renameListener);
     }
 
     /**
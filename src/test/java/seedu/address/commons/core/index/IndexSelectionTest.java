@@ -0,0 +1,61 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexSelectionTest {
+
+    private static final List<String> ITEMS = Arrays.asList("a", "b", "c", "d", "e");
+
+    @Test
+    public void select() {
+        // every item
+        assertEquals(ITEMS, IndexSelection.all().select(ITEMS));
+
+        // single item
+        assertEquals(List.of("b"), IndexSelection.of(Index.fromOneBased(2)).select(ITEMS));
+
+        // ranges are selected in the order given, each item at most once
+        IndexSelection selection = IndexSelection.union(Arrays.asList(
+                IndexSelection.of(Index.fromOneBased(5)),
+                IndexSelection.range(Index.fromOneBased(1), Index.fromOneBased(3)),
+                IndexSelection.range(Index.fromOneBased(2), Index.fromOneBased(5))));
+        assertEquals(Arrays.asList("e", "a", "b", "c", "d"), selection.select(ITEMS));
+    }
+
+    @Test
+    public void isWithin() {
+        assertTrue(IndexSelection.all().isWithin(0));
+        assertTrue(IndexSelection.range(Index.fromOneBased(1), Index.fromOneBased(5)).isWithin(5));
+        assertFalse(IndexSelection.range(Index.fromOneBased(1), Index.fromOneBased(6)).isWithin(5));
+        assertFalse(IndexSelection.of(Index.fromOneBased(1)).isWithin(0));
+    }
+
+    @Test
+    public void equals() {
+        IndexSelection first = IndexSelection.of(Index.fromOneBased(1));
+
+        // same values -> returns true
+        assertTrue(first.equals(IndexSelection.range(Index.fromOneBased(1), Index.fromOneBased(1))));
+        assertTrue(IndexSelection.all().equals(IndexSelection.all()));
+
+        // same object -> returns true
+        assertTrue(first.equals(first));
+
+        // null -> returns false
+        assertFalse(first.equals(null));
+
+        // different types -> returns false
+        assertFalse(first.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(first.equals(IndexSelection.of(Index.fromOneBased(2))));
+        assertFalse(first.equals(IndexSelection.all()));
+    }
+}
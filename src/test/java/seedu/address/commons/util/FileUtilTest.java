@@ -1,13 +1,22 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,16 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void replaceFile_existingTarget_replaced() throws IOException {
+        Path target = testFolder.resolve("data.json");
+        Path source = FileUtil.getTemporaryFile(target);
+        FileUtil.writeToFile(target, "old");
+        FileUtil.writeToFile(source, "new");
+
+        FileUtil.replaceFile(source, target);
+        assertEquals("new", FileUtil.readFromFile(target));
+        assertFalse(Files.exists(source));
+    }
+
 }
@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -123,12 +125,43 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_equalExactlyWhenEqualIgnoringCase() {
+        assertEquals("", StringUtil.foldCase(""));
+        assertEquals("alice pauline", StringUtil.foldCase("ALIce Pauline"));
+        assertEquals(StringUtil.foldCase("aaa@1"), StringUtil.foldCase("AaA@1"));
+        assertNotEquals(StringUtil.foldCase("aaa"), StringUtil.foldCase("aab"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
      * Equivalence Partitions: null, valid throwable object
      */
 
+    @Test
+    public void isAlphanumeric() {
+        // EP: empty string
+        assertFalse(StringUtil.isAlphanumeric(""));
+
+        // EP: not alphanumeric
+        assertFalse(StringUtil.isAlphanumeric("a b"));
+        assertFalse(StringUtil.isAlphanumeric("a_b"));
+        assertFalse(StringUtil.isAlphanumeric("caf\u00e9")); // not ASCII
+
+        // EP: alphanumeric
+        assertTrue(StringUtil.isAlphanumeric("a"));
+        assertTrue(StringUtil.isAlphanumeric("Z9"));
+        assertTrue(StringUtil.isAlphanumeric("abcXYZ0123456789"));
+    }
+
     @Test
     public void getDetails_exceptionGiven() {
         assertTrue(StringUtil.getDetails(new FileNotFoundException("file not found"))
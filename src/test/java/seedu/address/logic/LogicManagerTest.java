@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -8,26 +11,37 @@ import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BackupCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -82,11 +96,68 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_storageThrowsIoExceptionInBackground_errorHandled() throws Exception {
+        logic = new LogicManager(model, getStorageThrowing(DUMMY_IO_EXCEPTION), 0);
+        CompletableFuture<String> errorMessage = new CompletableFuture<>();
+        logic.setSaveErrorHandler(errorMessage::complete);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()),
+                errorMessage.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void execute_exitCommand_savesPendingChanges() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        logic = new LogicManager(model, new StorageManager(new JsonAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), TimeUnit.HOURS.toMillis(1));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertFalse(Files.exists(addressBookPath));
+
+        logic.execute(ExitCommand.COMMAND_WORD);
+        assertEquals(model.getAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(addressBookPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_backupAfterJournaledChange_backupHoldsChange() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        Path backupPath = temporaryFolder.resolve("backup").resolve("addressBook.json");
+        model.addPerson(ALICE);
+        model.setBackupAddressBookFilePath(backupPath);
+        logic = new LogicManager(model, new StorageManager(new JournalAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), TimeUnit.HOURS.toMillis(1));
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+
+        // the added person is only in the journal, not in the data file
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        CommandResult result = logic.execute(BackupCommand.COMMAND_WORD);
+        assertEquals(BackupCommand.MESSAGE_SUCCESS + backupPath, result.getFeedbackToUser());
+        assertEquals(1, new JsonAddressBookStorage(addressBookPath).readAddressBook().get().getPersonList().size());
+
+        assertEquals(model.getAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(backupPath).readAddressBook().get()));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getNameSuggestions_prefixOfNameWord_returnsSortedFullNames() {
+        model.addPerson(BENSON);
+        model.addPerson(ALICE);
+        model.addPerson(DANIEL);
+        assertEquals(Arrays.asList(BENSON.getName().fullName, DANIEL.getName().fullName),
+                logic.getNameSuggestions("MEI"));
+        assertEquals(Arrays.asList(ALICE.getName().fullName), logic.getNameSuggestions("a"));
+        assertTrue(logic.getNameSuggestions("z").isEmpty());
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -142,11 +213,28 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command itself succeeds, as its changes are saved later, but saving them on exit fails.
      *
      * @param e the exception to be thrown by the Storage component
      * @param expectedMessage the message expected inside exception thrown by the Logic component
      */
     private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+        logic = new LogicManager(model, getStorageThrowing(e));
+
+        // Triggers the saveAddressBook method by executing an add command, then exiting
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(expectedPerson);
+        assertDoesNotThrow(() -> logic.execute(addCommand));
+        assertCommandFailure(ExitCommand.COMMAND_WORD, CommandException.class, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Returns a {@code StorageManager} with an AddressBookStorage that throws the IOException {@code e} when saving.
+     */
+    private StorageManager getStorageThrowing(IOException e) {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -160,16 +248,6 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        logic = new LogicManager(model, storage);
-
-        // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
-        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        return new StorageManager(addressBookStorage, userPrefsStorage);
     }
 }
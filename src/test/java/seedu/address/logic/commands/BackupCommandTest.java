@@ -1,102 +1,45 @@
 package seedu.address.logic.commands;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
-import static seedu.address.testutil.Assert.assertThrows;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.MutableBatch;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 
 public class BackupCommandTest {
 
-    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "BackupCommandTest");
-
-    private static final Path BACKUP_FILE_PRESENT = TEST_DATA_FOLDER.resolve("backup");
-
-    private static final Path BACKUP_ADDRESSBOOK_PRESENT = BACKUP_FILE_PRESENT.resolve("backupAddressBook.json");
-
-    private static final Path MISSING_BACKUP_FILE = TEST_DATA_FOLDER.resolve("backupMissing");
-
-    private static final Path MISSING_BACKUP_ADDRESSBOOK = MISSING_BACKUP_FILE.resolve("backupMissingAddressBook.json");
-
-    private static final Path TYPICAL_ADDRESSBOOK = TEST_DATA_FOLDER.resolve("typicalAddressBook.json");
-
-    private static final Path ADDRESSBOOK_NOT_PRESENT = TEST_DATA_FOLDER.resolve("nonExistentAddressBook.json");
-
-    private void deleteIfPresent(Path file) {
-        try {
-            Files.deleteIfExists(file);
-        } catch (IOException e) {
-            fail();
-        }
-    }
-
-    private void checkIfIdentical(Path file1, Path file2) {
-        try {
-            assertEquals(Files.mismatch(file1, file2), -1);
-        } catch (IOException e) {
-            fail();
-        }
-    }
     @Test
-    public void execute_backupFilePresent_success() {
-        Path orignalAddressBook = TYPICAL_ADDRESSBOOK;
-        Path backupAddressBook = BACKUP_ADDRESSBOOK_PRESENT;
-        Model model = new ModelStub(orignalAddressBook, backupAddressBook);
-        String expectedMessage = BackupCommand.MESSAGE_SUCCESS + backupAddressBook.toString();
-        BackupCommand backupCommand = new BackupCommand();
-
-        assertCommandSuccess(backupCommand, model, expectedMessage, model);
-        checkIfIdentical(orignalAddressBook, backupAddressBook);;
-    }
+    public void execute_backupFilePath_backupRequested() {
+        Path backupFilePath = Paths.get("backup", "addressbook.json");
+        Model model = new ModelStub(backupFilePath);
+        CommandResult expectedResult = new CommandResult(BackupCommand.MESSAGE_SUCCESS + backupFilePath,
+                backupFilePath);
 
-    @Test
-    public void execute_backupFileEmptyAddressBook_success() {
-        Path orignalAddressBook = TYPICAL_ADDRESSBOOK;
-        Path backupAddressBook = MISSING_BACKUP_ADDRESSBOOK;
-        deleteIfPresent(backupAddressBook);
-        deleteIfPresent(MISSING_BACKUP_FILE);
-        Model model = new ModelStub(orignalAddressBook, backupAddressBook);
-        String expectedMessage = BackupCommand.MESSAGE_SUCCESS + backupAddressBook.toString();
-        BackupCommand backupCommand = new BackupCommand();
-
-        assertCommandSuccess(backupCommand, model, expectedMessage, model);
-        checkIfIdentical(orignalAddressBook, backupAddressBook);;
-    }
-
-    @Test
-    public void execute_orinalDataFileDoesNotExist_throwsCommandException() {
-        Path orignalAddressBook = ADDRESSBOOK_NOT_PRESENT;
-        Path backupAddressBook = BACKUP_ADDRESSBOOK_PRESENT;
-        Model model = new ModelStub(orignalAddressBook, backupAddressBook);
-        String expectedMessage = BackupCommand.NO_DATA_FILE;
-        BackupCommand backupCommand = new BackupCommand();
-
-        assertThrows(CommandException.class, expectedMessage, () -> backupCommand.execute(model));
+        assertCommandSuccess(new BackupCommand(), model, expectedResult, model);
     }
 
     private class ModelStub implements Model {
 
-        private Path addressBookFilePath;
-
         private Path backupAddressBookFilePath;
 
-        ModelStub(Path addressBookFilePath, Path backupAddressBookFilePath) {
-            this.addressBookFilePath = addressBookFilePath;
+        ModelStub(Path backupAddressBookFilePath) {
             this.backupAddressBookFilePath = backupAddressBookFilePath;
         }
         @Override
@@ -121,7 +64,7 @@ public class BackupCommandTest {
 
         @Override
         public Path getAddressBookFilePath() {
-            return addressBookFilePath;
+            throw new AssertionError("This method should not be called.");
         }
 
         @Override
@@ -166,21 +109,91 @@ public class BackupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public TagRegistry getTagRegistry() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Person> getPersonsWithAnyNameKeyword(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithNamePrefix(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String getHistorySummary() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void batch(Consumer<MutableBatch> changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithAllTags(Set<Tag> tags) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsScheduledBetween(LocalDateTime begin, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int renameTag(Tag target, String newName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError("This method should not be called.");
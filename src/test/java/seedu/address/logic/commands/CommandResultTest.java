@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
@@ -33,6 +35,11 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different backupFilePath value -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", Paths.get("backup.json"))));
+        assertFalse(new CommandResult("feedback", Paths.get("backup.json"))
+                .equals(new CommandResult("feedback", Paths.get("other.json"))));
     }
 
     @Test
@@ -50,6 +57,9 @@ public class CommandResultTest {
 
         // different exit value -> returns different hashcode
         assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", false, true).hashCode());
+
+        // different backupFilePath value -> returns different hashcode
+        assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", Paths.get("backup.json")).hashCode());
     }
 
     @Test
@@ -57,7 +67,7 @@ public class CommandResultTest {
         CommandResult commandResult = new CommandResult("feedback");
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
-                + ", exit=" + commandResult.isExit() + "}";
+                + ", exit=" + commandResult.isExit() + ", backupFilePath=null}";
         assertEquals(expected, commandResult.toString());
     }
 }
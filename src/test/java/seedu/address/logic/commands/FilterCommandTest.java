@@ -119,7 +119,7 @@ public class FilterCommandTest {
         assertCommandSuccess(
                 multipleFilterCommand,
                 model,
-                String.format(FilterCommand.MESSAGE_SUCCESS, VALID_TAG_OWES_MONEY + ", " + VALID_TAG_FRIEND),
+                String.format(FilterCommand.MESSAGE_SUCCESS, VALID_TAG_FRIEND + ", " + VALID_TAG_OWES_MONEY),
                 expectedModel
         );
     }
@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_nothingUndone_failure() {
+        model.deletePerson(BENSON);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_undoneChange_redoesChange() {
+        model.deletePerson(BENSON);
+        model.undo();
+        expectedModel.deletePerson(BENSON);
+        expectedModel.undo();
+        expectedModel.redo();
+
+        assertCommandSuccess(new RedoCommand(), model,
+                String.format(RedoCommand.MESSAGE_SUCCESS, expectedModel.getHistorySummary()), expectedModel);
+    }
+
+    @Test
+    public void execute_newChangeAfterUndo_failure() {
+        model.deletePerson(BENSON);
+        model.undo();
+        model.addPerson(new PersonBuilder().withName("New Person").build());
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+}
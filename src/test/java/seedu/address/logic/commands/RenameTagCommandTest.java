@@ -1,11 +1,15 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -13,6 +17,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class RenameTagCommandTest {
@@ -32,11 +37,14 @@ public class RenameTagCommandTest {
         String newTag = "friends1";
         RenameTagCommand renameTagCommand = new RenameTagCommand("friend", newTag);
         String expectedMessage = String.format(RenameTagCommand.MESSAGE_RENAME_TAG_SUCCESS, newTag);
+        // the tag is only renamed in the address book of the model itself
+        expectedModel.renameTag(new Tag("friend"), newTag);
         assertCommandSuccess(renameTagCommand, model, expectedMessage, expectedModel);
 
         String newTag2 = "friend";
         RenameTagCommand renameTagCommand2 = new RenameTagCommand("friends1", newTag2);
         String expectedMessage2 = String.format(RenameTagCommand.MESSAGE_RENAME_TAG_SUCCESS, newTag2);
+        expectedModel.renameTag(new Tag(newTag), newTag2);
         assertCommandSuccess(renameTagCommand2, model, expectedMessage2, expectedModel);
     }
 
@@ -49,14 +57,36 @@ public class RenameTagCommandTest {
         String expectedMessage = String.format(RenameTagCommand.MESSAGE_RENAME_TAG_SUCCESS, "owesMoney")
                 + String.format(RenameTagCommand.MESSAGE_DUPLICATES, "owesMoney");
 
+        // BENSON already has both tags and is left unchanged
+        Person retaggedAlice = new PersonBuilder(ALICE).withTags("owesMoney").build();
+        expectedModel.setPerson(ALICE, retaggedAlice);
         assertCommandSuccess(renameTagCommand, model, expectedMessage, expectedModel);
 
         RenameTagCommand renameTagCommand2 = new RenameTagCommand("owesMoney", "friend");
         String expectedMessage2 = String.format(RenameTagCommand.MESSAGE_RENAME_TAG_SUCCESS, "friend")
                 + String.format(RenameTagCommand.MESSAGE_DUPLICATES, "friend");
+        expectedModel.setPerson(retaggedAlice, ALICE);
         assertCommandSuccess(renameTagCommand2, model, expectedMessage2, expectedModel);
     }
 
+    @Test
+    public void execute_renameTag_renamesTagForAllHolders() throws Exception {
+        Person aliceCopy = new PersonBuilder(ALICE).withTags("colleague").build();
+        model.setPerson(ALICE, aliceCopy);
+        Tag tag = model.getAddressBook().getPersonList().get(0).getTags().iterator().next();
+        // persons outside the filtered list are renamed too
+        model.updateFilteredPersonList(Model.PREDICATE_DO_NOT_SHOW_ALL_PERSONS);
+
+        String expectedMessage = String.format(RenameTagCommand.MESSAGE_RENAME_TAG_SUCCESS, "coworker");
+        CommandResult result = new RenameTagCommand("colleague", "coworker").execute(model);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals("coworker", tag.getTagName());
+        assertTrue(model.getAddressBook().getPersonList().get(0).getTags().contains(new Tag("coworker")));
+        assertEquals(1, model.getPersonsWithAllTags(Set.of(new Tag("coworker"))).size());
+        // the tag is only renamed in the address book of the model
+        assertEquals("colleague", aliceCopy.getTags().iterator().next().getTagName());
+    }
+
     @Test
     public void execute_renameInvalidTag_failure() {
         String tag = "iDontExist";
@@ -1,5 +1,7 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHEDULE_DATE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHEDULE_NAME_BOB;
@@ -14,6 +16,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
@@ -74,6 +77,30 @@ public class ScheduleCommandTest {
         assertCommandSuccess(scheduleCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_indexRangeUnfilteredList_success() {
+        Schedule editedSchedule = new ScheduleBuilder()
+                .withScheduleName(VALID_SCHEDULE_NAME_BOB)
+                .withScheduleDate(VALID_SCHEDULE_DATE_BOB)
+                .withScheduleTime(VALID_SCHEDULE_TIME_BOB)
+                .build();
+        ScheduleCommand.ScheduleDescriptor descriptor = new ScheduleDescriptorBuilder(editedSchedule).build();
+        ScheduleCommand scheduleCommand = new ScheduleCommand(
+                IndexSelection.range(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), descriptor);
+
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_UPDATE_SCHEDULES_SUCCESS, 2);
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        for (Person person : model.getFilteredPersonList().subList(0, 2)) {
+            expectedModel.setPerson(person, new PersonBuilder(person)
+                    .withScheduleName(VALID_SCHEDULE_NAME_BOB)
+                    .withScheduleDate(VALID_SCHEDULE_DATE_BOB)
+                    .withScheduleTime(VALID_SCHEDULE_TIME_BOB).build());
+        }
+
+        assertCommandSuccess(scheduleCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_noFieldSpecifiedUnfilteredList_success() {
         ScheduleCommand scheduleCommand = new ScheduleCommand(
@@ -106,6 +133,24 @@ public class ScheduleCommandTest {
         ScheduleCommand scheduleCommand = new ScheduleCommand(INDEX_FIRST_PERSON, descriptor);
         String expectedMessage = ScheduleCommand.MESSAGE_SCHEDULE_UNCHANGED;
         assertCommandFailure(scheduleCommand, model, expectedMessage);
+
+        // the failed command leaves nothing to undo
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void execute_scheduleRemainsUnchanged_versionUnchanged() {
+        Schedule schedule = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()).getSchedule();
+        ScheduleCommand.ScheduleDescriptor descriptor = new ScheduleDescriptorBuilder()
+                .withScheduleName(schedule.scheduleName)
+                .withScheduleDate(schedule.dateString)
+                .withScheduleTime(schedule.timeString)
+                .build();
+        long version = model.getAddressBookSnapshot().getVersion();
+
+        assertCommandFailure(new ScheduleCommand(INDEX_FIRST_PERSON, descriptor), model,
+                ScheduleCommand.MESSAGE_SCHEDULE_UNCHANGED);
+        assertEquals(version, model.getAddressBookSnapshot().getVersion());
     }
 
     @Test
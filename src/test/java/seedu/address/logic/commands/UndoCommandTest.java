@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noChanges_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_multipleChanges_undoesLatestFirst() {
+        model.deletePerson(BENSON);
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("11111111").build());
+        expectedModel.deletePerson(BENSON);
+        expectedModel.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("11111111").build());
+
+        expectedModel.undo();
+        assertCommandSuccess(new UndoCommand(), model,
+                String.format(UndoCommand.MESSAGE_SUCCESS, expectedModel.getHistorySummary()), expectedModel);
+
+        // the deleted person is restored at the same position
+        expectedModel.undo();
+        assertCommandSuccess(new UndoCommand(), model,
+                String.format(UndoCommand.MESSAGE_SUCCESS, expectedModel.getHistorySummary()),
+                new ModelManager(getTypicalAddressBook(), new UserPrefs()));
+
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_clear_restoresAllPersons() {
+        model.setAddressBook(new AddressBook());
+        expectedModel.setAddressBook(new AddressBook());
+        expectedModel.undo();
+
+        assertCommandSuccess(new UndoCommand(), model,
+                String.format(UndoCommand.MESSAGE_SUCCESS, expectedModel.getHistorySummary()),
+                new ModelManager(getTypicalAddressBook(), new UserPrefs()));
+    }
+}
@@ -6,9 +6,14 @@ import static seedu.address.logic.commands.CommandTestUtil.INVALID_INDEX_EXCEED_
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.DeleteCommand;
 
 /**
@@ -25,11 +30,17 @@ public class DeleteCommandParserTest {
     @Test
     public void parse_validArgs_returnsDeleteCommand() {
         assertParseSuccess(parser, "1", new DeleteCommand(INDEX_FIRST_PERSON));
+        assertParseSuccess(parser, "all", new DeleteCommand(IndexSelection.all()));
+
+        IndexSelection expectedSelection = IndexSelection.union(Arrays.asList(
+                IndexSelection.range(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), IndexSelection.of(INDEX_THIRD_PERSON)));
+        assertParseSuccess(parser, "1-2,3", new DeleteCommand(expectedSelection));
     }
 
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
         assertParseFailure(parser, INVALID_INDEX_EXCEED_MAXINT, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertParseFailure(parser, "3-1", ParserUtil.MESSAGE_INVALID_INDEX_RANGE);
     }
 }
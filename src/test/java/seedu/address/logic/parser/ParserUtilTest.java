@@ -13,6 +13,8 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -65,6 +67,26 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexSelection_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexSelection("1,,2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexSelection("1-2-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexSelection("0-2"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_INDEX_RANGE, ()
+            -> ParserUtil.parseIndexSelection("5-2"));
+    }
+
+    @Test
+    public void parseIndexSelection_validInput_success() throws Exception {
+        assertEquals(IndexSelection.of(INDEX_FIRST_PERSON), ParserUtil.parseIndexSelection(" 1 "));
+        assertEquals(IndexSelection.all(), ParserUtil.parseIndexSelection(" ALL "));
+
+        IndexSelection expected = IndexSelection.union(Arrays.asList(
+                IndexSelection.range(Index.fromOneBased(1), Index.fromOneBased(500)),
+                IndexSelection.of(Index.fromOneBased(730))));
+        assertEquals(expected, ParserUtil.parseIndexSelection("1 - 500, 730"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
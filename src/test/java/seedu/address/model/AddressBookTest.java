@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -20,6 +22,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -83,6 +86,62 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        List<Person> persons = new ArrayList<>(typicalAddressBook.getPersonList());
+        ReadOnlyAddressBook snapshot = typicalAddressBook.snapshot();
+
+        typicalAddressBook.removePerson(ALICE);
+        typicalAddressBook.addPerson(new PersonBuilder().withName("Snapshot Person").build());
+        typicalAddressBook.sortPersons("desc", false);
+
+        assertEquals(persons, snapshot.getPersonList());
+        assertEquals(new ArrayList<>(typicalAddressBook.getPersonList()),
+                typicalAddressBook.snapshot().getPersonList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void getVersion_changes_versionChanged() {
+        AddressBook addressBook = new AddressBook();
+        long emptyVersion = addressBook.getVersion();
+        assertNotEquals(emptyVersion, new AddressBook().getVersion());
+
+        // lookups and snapshots leave the version unchanged
+        addressBook.hasPerson(ALICE);
+        assertEquals(emptyVersion, addressBook.snapshot().getVersion());
+
+        addressBook.addPerson(ALICE);
+        long addedVersion = addressBook.getVersion();
+        assertNotEquals(emptyVersion, addedVersion);
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertNotEquals(addedVersion, addressBook.getVersion());
+
+        long editedVersion = addressBook.getVersion();
+        Tag tag = editedAlice.getTags().iterator().next();
+        String tagName = tag.getTagName();
+        try {
+            addressBook.renameTag(tag, "versionRenameTest");
+            assertNotEquals(editedVersion, addressBook.getVersion());
+        } finally {
+            addressBook.renameTag(tag, tagName);
+        }
+    }
+
+    @Test
+    public void snapshot_tagRenamedLater_keepsTagName() {
+        addressBook.addPerson(new PersonBuilder(ALICE).withTags("snapshotNameOld").build());
+        Tag tag = addressBook.getPersonList().get(0).getTags().iterator().next();
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+
+        addressBook.renameTag(tag, "snapshotNameNew");
+        assertEquals("snapshotNameOld", snapshot.getTagName(tag));
+        assertEquals("snapshotNameNew", addressBook.getTagName(tag));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
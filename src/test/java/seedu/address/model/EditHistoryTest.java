@@ -0,0 +1,131 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class EditHistoryTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final List<Person> typicalPersons = new ArrayList<>(addressBook.getPersonList());
+
+    @Test
+    public void undoRedo_deletedPerson_restoredAtSamePosition() {
+        EditHistory history = new EditHistory();
+        int index = addressBook.indexOfPerson(BENSON);
+        addressBook.removePerson(BENSON);
+        history.record(EditHistory.PersonEdit.adding(BENSON, index));
+
+        history.undo(addressBook);
+        assertEquals(typicalPersons, addressBook.getPersonList());
+        assertFalse(history.canUndo());
+        assertTrue(history.canRedo());
+
+        history.redo(addressBook);
+        assertFalse(addressBook.hasPerson(BENSON));
+        assertTrue(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undo_snapshot_restoresPersonsAndOrder() {
+        EditHistory history = new EditHistory();
+        AddressBookSnapshot beforeSort = addressBook.snapshot();
+        addressBook.sortPersons("desc", false);
+        history.record(new EditHistory.SnapshotEdit(beforeSort));
+        AddressBookSnapshot beforeClear = addressBook.snapshot();
+        addressBook.resetData(new AddressBook());
+        history.record(new EditHistory.SnapshotEdit(beforeClear));
+
+        history.undo(addressBook);
+        assertEquals(beforeClear.getPersonList(), addressBook.getPersonList());
+        history.undo(addressBook);
+        assertEquals(typicalPersons, addressBook.getPersonList());
+
+        // the restored address book is no longer kept sorted
+        Person added = new PersonBuilder().withName("Aaron Added").build();
+        addressBook.addPerson(added);
+        assertEquals(added, addressBook.getPersonList().get(typicalPersons.size()));
+    }
+
+    @Test
+    public void undoRedo_tagRenameOntoHeldName_restoresHolders() {
+        Person holder = new PersonBuilder(ALICE).withTags("historyRetagOld").build();
+        addressBook.setPerson(ALICE, holder);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withTags("historyRetagNew").build());
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        int index = addressBook.indexOfPerson(holder);
+        EditHistory history = new EditHistory();
+        history.record(new EditHistory.TagRenameEdit(new Tag("historyRetagOld"), "historyRetagNew"));
+
+        // the name is held by another tag, so the holder is retagged
+        history.undo(addressBook);
+        Person retagged = addressBook.getPersonList().get(index);
+        assertEquals(Set.of(new Tag("historyRetagNew")), retagged.getTags());
+
+        history.redo(addressBook);
+        assertEquals(persons, addressBook.getPersonList());
+        assertTrue(addressBook.getPersonList().get(index).hasTag("historyRetagOld"));
+    }
+
+    @Test
+    public void record_afterUndo_discardsRedoableSteps() {
+        EditHistory history = new EditHistory();
+        addressBook.removePerson(ALICE);
+        history.record(EditHistory.PersonEdit.adding(ALICE, 0));
+        history.undo(addressBook);
+
+        addressBook.removePerson(BENSON);
+        history.record(EditHistory.PersonEdit.adding(BENSON, 1));
+        assertEquals(1, history.getUndoableCount());
+        assertEquals(0, history.getRedoableCount());
+    }
+
+    @Test
+    public void record_pastMaxSteps_dropsOldestSteps() {
+        EditHistory history = new EditHistory(2, EditHistory.DEFAULT_MAX_BYTES);
+        for (int i = 0; i < 5; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            addressBook.addPerson(person);
+            history.record(EditHistory.PersonEdit.removing(person));
+        }
+        assertEquals(2, history.getUndoableCount());
+
+        history.undo(addressBook);
+        history.undo(addressBook);
+        assertFalse(history.canUndo());
+        assertEquals(typicalPersons.size() + 3, addressBook.getPersonList().size());
+    }
+
+    @Test
+    public void record_pastMaxBytes_dropsOldestSteps() {
+        EditHistory history = new EditHistory(EditHistory.DEFAULT_MAX_STEPS, 1000);
+        for (int i = 0; i < 10; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            addressBook.addPerson(person);
+            addressBook.removePerson(person);
+            history.record(EditHistory.PersonEdit.adding(person, addressBook.getPersonList().size()));
+        }
+        assertTrue(history.getEstimatedBytes() <= 1000);
+        assertTrue(history.getUndoableCount() < 10);
+        assertTrue(history.canUndo());
+
+        // a snapshot larger than the limit is dropped with every other step
+        history.record(new EditHistory.SnapshotEdit(addressBook.snapshot()));
+        assertFalse(history.canUndo());
+        assertEquals(0, history.getEstimatedBytes());
+    }
+}
@@ -2,21 +2,30 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -105,6 +114,129 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void deletePersons_thenUndo_restoresOrder() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+
+        modelManager.deletePersons(List.of(CARL, ALICE));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.undo();
+        assertEquals(List.of(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+        modelManager.redo();
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void undo_renameTag_restoresTagName() {
+        modelManager.addPerson(ALICE);
+        modelManager.renameTag(new Tag("friend"), "undoRenameTest");
+        assertTrue(modelManager.getFilteredPersonList().get(0).hasTag("undoRenameTest"));
+
+        modelManager.undo();
+        assertTrue(modelManager.getFilteredPersonList().get(0).hasTag("friend"));
+        modelManager.redo();
+        assertTrue(modelManager.getFilteredPersonList().get(0).hasTag("undoRenameTest"));
+        modelManager.undo();
+        assertTrue(modelManager.getFilteredPersonList().get(0).hasTag("friend"));
+    }
+
+    @Test
+    public void undoRedo_renameTagThenOldNameFiltered_renamesAgain() {
+        modelManager.addPerson(new PersonBuilder(ALICE).withTags("undoFilterOld").build());
+        modelManager.renameTag(new Tag("undoFilterOld"), "undoFilterNew");
+        // a tag with the old name is made, as by filter t/undoFilterOld, which does not register the name
+        new Tag("undoFilterOld");
+
+        modelManager.undo();
+        assertTrue(modelManager.getFilteredPersonList().get(0).hasTag("undoFilterOld"));
+        modelManager.redo();
+        assertTrue(modelManager.getFilteredPersonList().get(0).hasTag("undoFilterNew"));
+        modelManager.undo();
+        assertTrue(modelManager.getFilteredPersonList().get(0).hasTag("undoFilterOld"));
+    }
+
+    @Test
+    public void renameTag_sameName_noUndoStep() {
+        AddressBook addressBook = new AddressBookBuilder()
+                .withPerson(new PersonBuilder(ALICE).withTags("renameSameName").build()).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        assertEquals(0, modelManager.renameTag(new Tag("renameSameName"), "renameSameName"));
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void renameTag_nameNotHeldByAnyone_tagRenamedInPlace() {
+        modelManager.addPerson(new PersonBuilder(ALICE).withTags("renameNotHeldOld").build());
+        // the name is registered, but no longer held once its only holder is deleted
+        Person deleted = new PersonBuilder(BENSON).withTags("renameNotHeldNew").build();
+        modelManager.addPerson(deleted);
+        modelManager.deletePerson(deleted);
+        Person person = modelManager.getFilteredPersonList().get(0);
+
+        modelManager.renameTag(new Tag("renameNotHeldOld"), "renameNotHeldNew");
+        assertSame(person, modelManager.getFilteredPersonList().get(0));
+        assertTrue(person.hasTag("renameNotHeldNew"));
+
+        // the deleted person gets its tag back once added back
+        modelManager.undo();
+        modelManager.undo();
+        assertTrue(person.hasTag("renameNotHeldOld"));
+        assertTrue(modelManager.getFilteredPersonList().get(1).hasTag("renameNotHeldNew"));
+        assertEquals(1, modelManager.getPersonsWithAllTags(Set.of(new Tag("renameNotHeldNew"))).size());
+    }
+
+    @Test
+    public void renameTag_nameHeldByOthers_showsAllPersons() {
+        modelManager.addPerson(new PersonBuilder(ALICE).withTags("retagFilterOld").build());
+        modelManager.addPerson(new PersonBuilder(BENSON).withTags("retagFilterNew").build());
+        Set<Person> holders = modelManager.getPersonsWithAllTags(Set.of(new Tag("retagFilterOld")));
+        modelManager.updateFilteredPersonList(holders::contains);
+
+        modelManager.renameTag(new Tag("retagFilterOld"), "retagFilterNew");
+        List<Person> shown = modelManager.getFilteredPersonList();
+        assertEquals(2, shown.size());
+        assertTrue(shown.stream().allMatch(person -> person.hasTag("retagFilterNew")));
+    }
+
+    @Test
+    public void batch_severalChanges_undoneTogether() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        List<Person> persons = new ArrayList<>(modelManager.getFilteredPersonList());
+
+        modelManager.batch(batch -> {
+            batch.deletePerson(ALICE);
+            batch.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("11111111").build());
+            batch.addPerson(CARL);
+        });
+        assertEquals(2, modelManager.getFilteredPersonList().size());
+        assertTrue(modelManager.hasPerson(CARL));
+
+        modelManager.undo();
+        assertEquals(persons, modelManager.getFilteredPersonList());
+        modelManager.redo();
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertTrue(modelManager.hasPerson(CARL));
+    }
+
+    @Test
+    public void batch_failingChange_noChangesKept() {
+        modelManager.addPerson(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> modelManager.batch(batch -> {
+            batch.addPerson(BENSON);
+            batch.addPerson(ALICE);
+        }));
+        assertFalse(modelManager.hasPerson(BENSON));
+
+        // only the addition of ALICE can be undone
+        modelManager.undo();
+        assertFalse(modelManager.canUndo());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -60,4 +61,15 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void getSortKey_ordersLikeCaseInsensitiveFullNames() {
+        String[] fullNames = {"alice", "Alice", "ALICE B", "Bob", "bOb 2", "Zed", "zed", "a1", "A 1"};
+        for (String first : fullNames) {
+            for (String second : fullNames) {
+                assertEquals(Integer.signum(String.CASE_INSENSITIVE_ORDER.compare(first, second)),
+                        Integer.signum(new Name(first).getSortKey().compareTo(new Name(second).getSortKey())));
+            }
+        }
+    }
 }
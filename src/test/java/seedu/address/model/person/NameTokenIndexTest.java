@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+
+    @Test
+    public void getPersonsWithAnyToken_mixedCaseKeywords_returnsUnion() {
+        uniquePersonList.addIndex(nameTokenIndex);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(DANIEL);
+
+        Set<Person> matches = nameTokenIndex.getPersonsWithAnyToken(Arrays.asList("mEIER", "carl"));
+        assertEquals(3, matches.size());
+        assertTrue(matches.contains(BENSON) && matches.contains(CARL) && matches.contains(DANIEL));
+    }
+
+    @Test
+    public void getPersonsWithAnyToken_partialWord_returnsEmpty() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addIndex(nameTokenIndex);
+
+        assertTrue(nameTokenIndex.getPersonsWithAnyToken(Collections.singletonList("Ali")).isEmpty());
+        assertTrue(nameTokenIndex.getPersonsWithAnyToken(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithTokenPrefix_mixedCasePrefix_returnsPersonsWithMatchingWord() {
+        uniquePersonList.addIndex(nameTokenIndex);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(DANIEL);
+
+        Set<Person> matches = nameTokenIndex.getPersonsWithTokenPrefix("mE", Integer.MAX_VALUE);
+        assertEquals(2, matches.size());
+        assertTrue(matches.contains(BENSON) && matches.contains(DANIEL));
+
+        assertEquals(1, nameTokenIndex.getPersonsWithTokenPrefix("Pauline", Integer.MAX_VALUE).size());
+        assertTrue(nameTokenIndex.getPersonsWithTokenPrefix("Paulines", Integer.MAX_VALUE).isEmpty());
+        assertTrue(nameTokenIndex.getPersonsWithTokenPrefix("eier", Integer.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithTokenPrefix_limit_returnsPersonsOfFirstWords() {
+        uniquePersonList.addIndex(nameTokenIndex);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(DANIEL);
+
+        // "alice" is the first of all words
+        assertEquals(Set.of(ALICE), nameTokenIndex.getPersonsWithTokenPrefix("", 1));
+        assertEquals(2, nameTokenIndex.getPersonsWithTokenPrefix("me", 2).size());
+        assertEquals(1, nameTokenIndex.getPersonsWithTokenPrefix("me", 1).size());
+        assertTrue(nameTokenIndex.getPersonsWithTokenPrefix("me", 0).isEmpty());
+    }
+
+    @Test
+    public void listMutations_keepIndexInSync() {
+        uniquePersonList.addIndex(nameTokenIndex);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        uniquePersonList.remove(BENSON);
+
+        assertTrue(nameTokenIndex.getPersonsWithAnyToken(Arrays.asList("Pauline", "Benson")).isEmpty());
+        assertTrue(nameTokenIndex.getPersonsWithAnyToken(Collections.singletonList("tan")).contains(renamedAlice));
+    }
+}
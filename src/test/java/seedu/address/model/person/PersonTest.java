@@ -105,6 +105,26 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void hashCodeMethod() {
+        // same values -> same hash code
+        assertEquals(ALICE.hashCode(), new PersonBuilder(ALICE).build().hashCode());
+        assertEquals(BOB.hashCode(), new PersonBuilder(BOB).build().hashCode());
+    }
+
+    @Test
+    public void withSocialMedia() {
+        SocialMedia socialMedia = new SocialMedia("alice", SocialMedia.Platform.INSTAGRAM);
+        Person aliceWithSocialMedia = ALICE.withSocialMedia(socialMedia);
+
+        assertEquals(new PersonBuilder(ALICE).withSocialMedia("[ig-alice]").build(), aliceWithSocialMedia);
+        assertEquals(new PersonBuilder(ALICE).withSocialMedia("[ig-alice]").build().hashCode(),
+                aliceWithSocialMedia.hashCode());
+
+        // the original person is unchanged
+        assertFalse(ALICE.getSocialMedia().equals(socialMedia));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
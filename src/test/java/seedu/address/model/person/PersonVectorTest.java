@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonVectorTest {
+
+    @Test
+    public void of_persons_keepsOrder() {
+        List<Person> persons = getTypicalPersons();
+        PersonVector vector = PersonVector.of(persons);
+        assertEquals(persons, vector.asList());
+        assertEquals(persons.size(), vector.size());
+        assertEquals(persons.get(3), vector.get(3));
+        assertSame(PersonVector.empty(), PersonVector.of(List.of()));
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        PersonVector vector = PersonVector.of(List.of(ALICE));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.insert(2, BENSON));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersonVector.empty().remove(0));
+    }
+
+    @Test
+    public void updates_leaveEarlierVersionsUnchanged() {
+        PersonVector original = PersonVector.of(List.of(ALICE, BENSON));
+        PersonVector inserted = original.insert(1, CARL);
+        PersonVector replaced = inserted.set(0, BENSON);
+        PersonVector removed = replaced.remove(2);
+
+        assertEquals(List.of(ALICE, BENSON), original.asList());
+        assertEquals(List.of(ALICE, CARL, BENSON), inserted.asList());
+        assertEquals(List.of(BENSON, CARL, BENSON), replaced.asList());
+        assertEquals(List.of(BENSON, CARL), removed.asList());
+        assertTrue(removed.remove(0).remove(0).isEmpty());
+    }
+
+    @Test
+    public void updates_matchArrayList() {
+        Random random = new Random(2103);
+        List<Person> expected = new ArrayList<>();
+        PersonVector vector = PersonVector.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                Person person = new PersonBuilder().withName("Person " + i).build();
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, person);
+                vector = vector.insert(index, person);
+            } else if (operation == 1) {
+                Person person = new PersonBuilder().withName("Person " + i).build();
+                int index = random.nextInt(expected.size());
+                expected.set(index, person);
+                vector = vector.set(index, person);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                vector = vector.remove(index);
+            }
+        }
+        assertEquals(expected, vector.asList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), vector.get(i));
+        }
+    }
+}
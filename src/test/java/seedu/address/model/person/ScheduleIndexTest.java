@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class ScheduleIndexTest {
+
+    private static final LocalDateTime OCT_21_MIDNIGHT = LocalDateTime.of(2024, 10, 21, 0, 0);
+    private static final LocalDateTime OCT_21_1600 = LocalDateTime.of(2024, 10, 21, 16, 0);
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private final ScheduleIndex scheduleIndex = new ScheduleIndex();
+
+    @BeforeEach
+    public void setUp() {
+        uniquePersonList.addIndex(scheduleIndex);
+        uniquePersonList.add(ALICE); // 2024-10-21 16:00
+        uniquePersonList.add(BENSON); // 2024-10-21 00:00
+        uniquePersonList.add(CARL); // 2024-10-22 16:00
+        uniquePersonList.add(FIONA); // no schedule
+        uniquePersonList.add(GEORGE); // time without date
+    }
+
+    @Test
+    public void getPersonsScheduledBetween_closedRange_boundsInclusive() {
+        Set<Person> persons = scheduleIndex.getPersonsScheduledBetween(OCT_21_MIDNIGHT, OCT_21_1600);
+        assertEquals(2, persons.size());
+        assertTrue(persons.contains(ALICE) && persons.contains(BENSON));
+    }
+
+    @Test
+    public void getPersonsScheduledBetween_openRanges_excludePersonsWithoutSchedule() {
+        Set<Person> fromOctober21 = scheduleIndex.getPersonsScheduledBetween(OCT_21_MIDNIGHT, null);
+        assertEquals(3, fromOctober21.size());
+        assertFalse(fromOctober21.contains(FIONA) || fromOctober21.contains(GEORGE));
+
+        Set<Person> untilOctober21 = scheduleIndex.getPersonsScheduledBetween(null, OCT_21_MIDNIGHT);
+        assertEquals(1, untilOctober21.size());
+        assertTrue(untilOctober21.contains(BENSON));
+    }
+
+    @Test
+    public void getPersonsScheduledBetween_afterReschedulingAndRemoval_reflectsChanges() {
+        Person rescheduledAlice = new PersonBuilder(ALICE).withScheduleDate("2024-12-01").build();
+        uniquePersonList.setPerson(ALICE, rescheduledAlice);
+        uniquePersonList.remove(BENSON);
+
+        assertTrue(scheduleIndex.getPersonsScheduledBetween(OCT_21_MIDNIGHT, OCT_21_1600).isEmpty());
+        assertTrue(scheduleIndex.getPersonsScheduledBetween(LocalDateTime.of(2024, 12, 1, 0, 0), null)
+                .contains(rescheduledAlice));
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHEDULE_DATE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHEDULE_DATE_BOB;
@@ -8,6 +10,9 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHEDULE_NAME_A
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHEDULE_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHEDULE_TIME_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHEDULE_TIME_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.Test;
 
@@ -62,6 +67,105 @@ public class ScheduleTest {
         assertFalse(editedAmyScheduleEmpty.equals(editedAmyScheduleMidnight));
     }
 
+    @Test
+    public void isValidDate() {
+        // invalid dates
+        assertFalse(Schedule.isValidDate(" ")); // spaces only
+        assertFalse(Schedule.isValidDate("2024-1-01")); // month not padded
+        assertFalse(Schedule.isValidDate("2024/01/01")); // wrong separator
+        assertFalse(Schedule.isValidDate("2024-13-01")); // no such month
+        assertFalse(Schedule.isValidDate("2023-02-29")); // not a leap year
+        assertFalse(Schedule.isValidDate("2024-04-31")); // no such day
+        assertFalse(Schedule.isValidDate("2024-0a-01")); // not a number
+        assertFalse(Schedule.isValidDate("+12024-01-01")); // year beyond 9999
+
+        // valid dates
+        assertTrue(Schedule.isValidDate("")); // empty string
+        assertTrue(Schedule.isValidDate("2024-02-29")); // leap year
+        assertTrue(Schedule.isValidDate("2000-02-29")); // leap year divisible by 400
+    }
+
+    @Test
+    public void isValidTime() {
+        // invalid times
+        assertFalse(Schedule.isValidTime(" ")); // spaces only
+        assertFalse(Schedule.isValidTime("24:00")); // no such hour
+        assertFalse(Schedule.isValidTime("12:60")); // no such minute
+        assertFalse(Schedule.isValidTime("9:30")); // hour not padded
+        assertFalse(Schedule.isValidTime("12-30")); // wrong separator
+        assertFalse(Schedule.isValidTime("12:30:15")); // seconds
+
+        // valid times
+        assertTrue(Schedule.isValidTime("")); // empty string
+        assertTrue(Schedule.isValidTime("00:00"));
+        assertTrue(Schedule.isValidTime("23:59"));
+    }
+
+    @Test
+    public void getInstant() {
+        // no date -> sentinel instant and no date time
+        assertEquals(Schedule.NO_INSTANT, EMPTY_SCHEDULE.getInstant());
+        assertNull(EMPTY_SCHEDULE.getDateTime());
+
+        // date without time -> midnight of that date
+        Schedule dateOnly = new Schedule("meeting", "2024-10-22", "");
+        assertEquals(LocalDateTime.of(2024, 10, 22, 0, 0), dateOnly.getDateTime());
+
+        // later date time -> larger instant
+        Schedule later = new Schedule("meeting", "2024-10-22", "09:30");
+        assertTrue(dateOnly.getInstant() < later.getInstant());
+        assertEquals(Schedule.toInstant(LocalDateTime.of(2024, 10, 22, 9, 30)), later.getInstant());
+
+        // instants are in minutes since the epoch
+        assertEquals(1, new Schedule("meeting", "1970-01-01", "00:01").getInstant());
+        assertEquals(-24 * 60, new Schedule("meeting", "1969-12-31", "").getInstant());
+        assertEquals(1, Schedule.toInstant(LocalDateTime.of(1970, 1, 1, 0, 1, 59)));
+        assertEquals(LocalDateTime.of(2024, 10, 22, 9, 30), later.getDateTime());
+    }
+
+    @Test
+    public void ofInstant() {
+        // same as parsing the date and time
+        Schedule withTime = new Schedule("meeting", "2024-10-22", "09:30");
+        Schedule fromInstant = Schedule.ofInstant("meeting", withTime.getInstant(), true);
+        assertEquals(withTime, fromInstant);
+        assertEquals(withTime.dateString, fromInstant.dateString);
+        assertEquals(withTime.timeString, fromInstant.timeString);
+
+        Schedule dateOnly = new Schedule("", "2024-10-22", "");
+        fromInstant = Schedule.ofInstant("", dateOnly.getInstant(), false);
+        assertEquals(dateOnly, fromInstant);
+        assertEquals("schedule", fromInstant.scheduleName);
+        assertEquals("", fromInstant.timeString);
+
+        // not at midnight without a time -> throws
+        assertThrows(IllegalArgumentException.class, () ->
+                Schedule.ofInstant("meeting", withTime.getInstant(), false));
+
+        // invalid name -> throws
+        assertThrows(IllegalArgumentException.class, () -> Schedule.ofInstant("meet ing", withTime.getInstant(), true));
+
+        // outside the years 0 to 9999 -> throws
+        assertThrows(IllegalArgumentException.class, () -> Schedule.ofInstant("meeting",
+                Schedule.toInstant(LocalDateTime.of(10000, 1, 1, 0, 0)), false));
+        assertThrows(IllegalArgumentException.class, () -> Schedule.ofInstant("meeting", Long.MAX_VALUE, true));
+    }
+
+    @Test
+    public void hashCode_equalSchedules_equalHashCodes() {
+        assertEquals(AMY_SCHEDULE.hashCode(), new ScheduleBuilder(AMY_SCHEDULE).build().hashCode());
+        Schedule namedEmptySchedule = new Schedule("meeting", "", "");
+        assertTrue(EMPTY_SCHEDULE.equals(namedEmptySchedule));
+        assertEquals(EMPTY_SCHEDULE.hashCode(), namedEmptySchedule.hashCode());
+    }
+
+    @Test
+    public void hashCode_noDate_zero() {
+        assertEquals(0, EMPTY_SCHEDULE.hashCode());
+        assertEquals(0, new Schedule("meeting", "", "").hashCode());
+        assertEquals(0, new Schedule("", "", "").hashCode());
+    }
+
     @Test
     public void toStringMethod() {
         // empty schedule -> empty string
@@ -57,6 +57,12 @@ public class SocialMediaTest {
         assertFalse(socialMedia.equals(new SocialMedia("username", SocialMedia.Platform.CAROUSELL)));
     }
 
+    @Test
+    public void hashCodeMethod() {
+        assertEquals(new SocialMedia("username", SocialMedia.Platform.FACEBOOK).hashCode(),
+                new SocialMedia("username", SocialMedia.Platform.FACEBOOK).hashCode());
+    }
+
     @Test
     public void toString_success() {
         assertEquals("[ig-username]",
@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
+
+public class TagIdSetTest {
+
+    private final TagRegistry registry = new TagRegistry();
+    private final Tag friend = registry.getTag(registry.intern("friend"));
+    private final Tag family = registry.getTag(registry.intern("family"));
+    private final Tag colleague = new Tag("colleague");
+
+    @Test
+    public void toSortedIds_duplicateTags_returnsSortedDistinctIds() {
+        int[] ids = TagIdSet.toSortedIds(Arrays.asList(friend, family, friend), registry);
+        int[] expected = {friend.getId(), family.getId()};
+        Arrays.sort(expected);
+        assertArrayEquals(expected, ids);
+        assertEquals(0, TagIdSet.toSortedIds(List.of(), registry).length);
+    }
+
+    @Test
+    public void getRegistry_tagsOfDifferentRegistries_returnsNewRegistry() {
+        assertEquals(registry, TagIdSet.getRegistry(List.of(friend, family)));
+        TagRegistry ownRegistry = TagIdSet.getRegistry(List.of(friend, colleague));
+        assertTrue(ownRegistry != registry && ownRegistry != null);
+        assertEquals(null, TagIdSet.getRegistry(List.of()));
+    }
+
+    @Test
+    public void view_behavesAsSetOfTags() {
+        Set<Tag> tags = TagIdSet.view(registry, TagIdSet.toSortedIds(List.of(friend, family), registry));
+        assertEquals(2, tags.size());
+        assertTrue(tags.contains(new Tag("friend")));
+        assertFalse(tags.contains(colleague));
+        assertFalse(tags.contains("friend"));
+        assertEquals(new HashSet<>(List.of(friend, family)), tags);
+        assertEquals(new HashSet<>(List.of(friend, family)).hashCode(), tags.hashCode());
+    }
+
+    @Test
+    public void view_modify_throwsUnsupportedOperationException() {
+        Set<Tag> tags = TagIdSet.view(registry, TagIdSet.toSortedIds(List.of(friend), registry));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(family));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(friend));
+        assertThrows(UnsupportedOperationException.class, () -> tags.clear());
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private final TagRegistry registry = new TagRegistry();
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private final TagIndex tagIndex = new TagIndex(registry);
+    private final Person alice = ALICE.withTagRegistry(registry);
+    private final Person benson = BENSON.withTagRegistry(registry);
+
+    @Test
+    public void getPersonsWithAllTags_singleTag_returnsTaggedPersons() {
+        uniquePersonList.addIndex(tagIndex);
+        uniquePersonList.add(alice);
+        uniquePersonList.add(benson);
+        uniquePersonList.add(CARL.withTagRegistry(registry));
+
+        Set<Person> friends = tagIndex.getPersonsWithAllTags(SampleDataUtil.getTagSet("friend"));
+        assertEquals(2, friends.size());
+        assertTrue(friends.contains(alice) && friends.contains(benson));
+    }
+
+    @Test
+    public void getPersonsWithAllTags_multipleTags_returnsIntersection() {
+        uniquePersonList.add(alice);
+        uniquePersonList.add(benson);
+        uniquePersonList.add(DANIEL.withTagRegistry(registry));
+        uniquePersonList.addIndex(tagIndex);
+
+        Set<Person> matches = tagIndex.getPersonsWithAllTags(SampleDataUtil.getTagSet("friend", "owesMoney"));
+        assertEquals(1, matches.size());
+        assertTrue(matches.contains(benson));
+
+        assertTrue(tagIndex.getPersonsWithAllTags(SampleDataUtil.getTagSet("friend", "family")).isEmpty());
+        assertTrue(tagIndex.getPersonsWithAllTags(SampleDataUtil.getTagSet("friend", "unknown")).isEmpty());
+    }
+
+    @Test
+    public void listMutations_keepIndexInSync() {
+        uniquePersonList.addIndex(tagIndex);
+        uniquePersonList.add(alice);
+        uniquePersonList.add(benson);
+
+        Person retaggedAlice = new PersonBuilder(ALICE).withTags("family").build().withTagRegistry(registry);
+        uniquePersonList.setPerson(alice, retaggedAlice);
+        uniquePersonList.remove(benson);
+
+        assertEquals(0, tagIndex.count(new Tag("friend")));
+        assertEquals(0, tagIndex.count(new Tag("owesMoney")));
+        assertTrue(tagIndex.getPersonsWithAllTags(SampleDataUtil.getTagSet("family")).contains(retaggedAlice));
+    }
+}
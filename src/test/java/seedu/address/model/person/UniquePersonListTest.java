@@ -16,12 +16,14 @@ import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.GEORGE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -54,6 +56,21 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personReplacedByDifferentIdentity_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -80,6 +97,26 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(ALICE, ALICE));
     }
 
+    @Test
+    public void setPerson_targetHasSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
+    @Test
+    public void setPerson_afterEarlierPersonRemoved_replacesCorrectPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, BOB);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BENSON);
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
     @Test
     public void setPerson_editedPersonIsSamePerson_success() {
         uniquePersonList.add(ALICE);
@@ -169,6 +206,17 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsAllDuplicatesAndKeepsOwnList() {
+        uniquePersonList.add(CARL);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, BOB);
+        String expectedMessage = new DuplicatePersonException(Arrays.asList(ALICE, BOB)).getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, ()
+            -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.contains(CARL));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -248,6 +296,166 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void sortPersons_thenRemoveAndSetPerson_updatesCorrectPersons() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.sortPersons(ASC, false);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, DANIEL);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BENSON);
+        expectedUniquePersonList.add(DANIEL);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void sortPersons_thenAddPersons_keepsSortedOrder() {
+        uniquePersonList.sortPersons(DESC, false);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(CARL);
+        expectedUniquePersonList.add(BENSON);
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void sortPersons_thenSetPersonOutOfPlace_movesPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.sortPersons(ASC, false);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zed Pauline").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        uniquePersonList.remove(BENSON);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(CARL);
+        expectedUniquePersonList.add(renamedAlice);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void sortPersons_sameOrderAgain_doesNotChangeList() {
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.sortPersons(ASC, true);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) changes::add);
+        uniquePersonList.sortPersons(ASC, true);
+        assertTrue(changes.isEmpty());
+        uniquePersonList.sortPersons(ASC, false);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void batch_severalChanges_singleChangeEvent() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) changes::add);
+
+        uniquePersonList.batch(() -> {
+            uniquePersonList.remove(ALICE);
+            uniquePersonList.add(CARL);
+            uniquePersonList.setPerson(BENSON, DANIEL);
+            // lookups during the batch see its changes
+            assertFalse(uniquePersonList.contains(ALICE));
+            assertEquals(1, uniquePersonList.indexOf(CARL));
+        });
+
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList(DANIEL, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Arrays.asList(DANIEL, CARL), uniquePersonList.snapshot().asList());
+    }
+
+    @Test
+    public void batch_severalChanges_indexesRebuiltOnceAtEnd() {
+        NameTokenIndex nameTokenIndex = new NameTokenIndex();
+        uniquePersonList.addIndex(nameTokenIndex);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+
+        uniquePersonList.batch(() -> {
+            uniquePersonList.remove(ALICE);
+            uniquePersonList.add(0, CARL);
+            // the secondary indexes and the snapshot are only rebuilt once the batch ends
+            assertEquals(List.of(ALICE, BENSON), uniquePersonList.snapshot().asList());
+            assertTrue(nameTokenIndex.getPersonsWithTokenPrefix("carl", 1).isEmpty());
+        });
+
+        assertEquals(List.of(CARL, BENSON), uniquePersonList.snapshot().asList());
+        assertEquals(1, uniquePersonList.indexOf(BENSON));
+        assertEquals(1, nameTokenIndex.getPersonsWithTokenPrefix("carl", 1).size());
+        assertTrue(nameTokenIndex.getPersonsWithTokenPrefix("alice", 1).isEmpty());
+    }
+
+    @Test
+    public void removeAll_severalPersons_removedInOneChange() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) changes::add);
+
+        uniquePersonList.removeAll(List.of(CARL, ALICE));
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of(BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(0, uniquePersonList.indexOf(BENSON));
+        assertEquals(-1, uniquePersonList.indexOf(ALICE));
+        assertEquals(List.of(BENSON), uniquePersonList.snapshot().asList());
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(List.of(ALICE, BENSON)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void batch_failingChange_listUnchanged() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) changes::add);
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.batch(() -> {
+            uniquePersonList.remove(ALICE);
+            uniquePersonList.add(BENSON);
+        }));
+
+        assertTrue(changes.isEmpty());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertEquals(0, uniquePersonList.indexOf(ALICE));
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.snapshot().asList());
+    }
+
+    @Test
+    public void setPersons_afterSort_keepsGivenOrder() {
+        uniquePersonList.sortPersons(ASC, false);
+        uniquePersonList.setPersons(Arrays.asList(CARL, ALICE));
+        uniquePersonList.add(BENSON);
+        assertEquals(Arrays.asList(CARL, ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sortPersons_manyInsertsAtFront_removesAndSetsCorrectPersons() {
+        uniquePersonList.sortPersons(DESC, false);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(DANIEL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, GEORGE);
+        assertEquals(Arrays.asList(GEORGE, DANIEL, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(CARL));
+    }
+
     @Test
     public void sortPersons_emptyList_noChange() {
         // Sorting an empty list should not do anything
@@ -0,0 +1,64 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TagRegistryTest {
+
+    private final TagRegistry registry = new TagRegistry();
+
+    @Test
+    public void intern_sameName_returnsSameId() {
+        assertEquals(registry.intern("same"), registry.intern("same"));
+        assertNotEquals(registry.intern("same"), registry.intern("other"));
+        assertSame(registry.getTag(registry.intern("same")), registry.getTag(registry.intern(new Tag("same"))));
+    }
+
+    @Test
+    public void findId_otherRegistry_unaffected() {
+        TagRegistry other = new TagRegistry();
+        other.intern("onlyInOther");
+        assertEquals(-1, registry.findId("onlyInOther"));
+        assertNull(new Tag("onlyInOther").getRegistry());
+    }
+
+    @Test
+    public void rename_unregisteredName_renamesEveryHolder() {
+        Tag tag = registry.getTag(registry.intern("old"));
+        List<String> notifications = new ArrayList<>();
+        TagRegistry.RenameListener listener = (id, oldName, newName) -> notifications.add(oldName + ">" + newName);
+        registry.addRenameListener(listener);
+
+        registry.rename(tag.getId(), "new");
+        registry.removeRenameListener(listener);
+        registry.rename(tag.getId(), "newer");
+
+        assertEquals("newer", tag.getTagName());
+        assertEquals(tag, new Tag("newer"));
+        assertEquals(-1, registry.findId("old"));
+        assertEquals(List.of("old>new"), notifications);
+    }
+
+    @Test
+    public void rename_registeredName_takesOverNameUntilClaimedBack() {
+        Tag tag = registry.getTag(registry.intern("first"));
+        Tag other = registry.getTag(registry.intern("second"));
+
+        registry.rename(tag.getId(), "second");
+        assertEquals(tag.getId(), registry.findId("second"));
+        assertEquals(-1, registry.findId("first"));
+
+        // renaming back, and then claiming the other tag, as when a holder of it is added back, restores both names
+        registry.rename(tag.getId(), "first");
+        registry.claim(other.getId());
+        assertEquals(tag.getId(), registry.findId("first"));
+        assertEquals(other.getId(), registry.findId("second"));
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AddressBookSaverTest {
+
+    private static final long LONG_DELAY_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void submit_manyBeforeFlush_latestSavedOnce() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("addressBook.json"));
+        AddressBookSaver saver = new AddressBookSaver(storage, LONG_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.submit(addressBook.snapshot());
+        addressBook.addPerson(HOON);
+        saver.submit(addressBook.snapshot());
+        addressBook.removePerson(ALICE);
+        ReadOnlyAddressBook latest = addressBook.snapshot();
+        saver.submit(latest);
+        assertTrue(saver.hasPendingSave());
+        assertTrue(storage.saved.isEmpty());
+
+        saver.flush();
+        assertFalse(saver.hasPendingSave());
+        assertEquals(1, storage.saved.size());
+        assertSame(latest, storage.saved.get(0));
+        assertEquals(List.of(latest), storage.flushed);
+
+        // nothing is left to save
+        saver.flush();
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void submit_noFlush_savedInBackground() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("addressBook.json"));
+        CompletableFuture<ReadOnlyAddressBook> saved = new CompletableFuture<>();
+        storage.onSave = saved::complete;
+        AddressBookSaver saver = new AddressBookSaver(storage, 0);
+
+        ReadOnlyAddressBook snapshot = getTypicalAddressBook().snapshot();
+        saver.submit(snapshot);
+        assertSame(snapshot, saved.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void submit_saveFails_failureHandledAndRetriedOnFlush() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("addressBook.json"));
+        IOException failure = new IOException("dummy IO exception");
+        storage.failure = failure;
+        AddressBookSaver saver = new AddressBookSaver(storage, 0);
+        CompletableFuture<IOException> handled = new CompletableFuture<>();
+        saver.setFailureHandler(handled::complete);
+
+        ReadOnlyAddressBook snapshot = getTypicalAddressBook().snapshot();
+        saver.submit(snapshot);
+        assertSame(failure, handled.get(10, TimeUnit.SECONDS));
+
+        // the failed save is kept, and is retried on flush
+        assertTrue(saver.hasPendingSave());
+        assertThrows(IOException.class, failure.getMessage(), saver::flush);
+        storage.failure = null;
+        saver.flush();
+        assertEquals(List.of(snapshot), storage.saved);
+    }
+
+    /**
+     * A storage that records the address books it saves and flushes, or fails to save them if {@code failure} is set.
+     */
+    private static class RecordingStorage extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new CopyOnWriteArrayList<>();
+        private final List<ReadOnlyAddressBook> flushed = new CopyOnWriteArrayList<>();
+        private volatile IOException failure;
+        private volatile Consumer<ReadOnlyAddressBook> onSave = addressBook -> {};
+
+        RecordingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(addressBook);
+            onSave.accept(addressBook);
+        }
+
+        @Override
+        public void flushAddressBook(ReadOnlyAddressBook addressBook) {
+            flushed.add(addressBook);
+        }
+    }
+}
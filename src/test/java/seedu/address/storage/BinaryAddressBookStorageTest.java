@@ -0,0 +1,160 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = createStorage(testFolder.resolve("addressBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_snapshotFresherThanData_readFromSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        // schedules written as their instant, with and without a time, and as their text
+        original.addPerson(new PersonBuilder().withName("Date Only").withScheduleDate("2024-10-21")
+                .withScheduleTime("").build());
+        original.addPerson(new PersonBuilder().withName("Time Only").withScheduleDate("").withScheduleTime("09:30")
+                .build());
+        original.addPerson(new PersonBuilder().withName("Date Time").withScheduleDate("2024-10-21")
+                .withScheduleTime("09:30").withSocialMedia("[fb-date.time]").withTags("friends").build());
+        createStorage(filePath).saveAddressBook(original);
+        assertTrue(Files.exists(BinaryAddressBookStorage.getSnapshotFilePath(filePath)));
+
+        // the data cannot be read, but is older than the snapshot
+        Files.writeString(filePath, "not json format!");
+        setOlder(filePath, BinaryAddressBookStorage.getSnapshotFilePath(filePath));
+        ReadOnlyAddressBook readBack = createStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_dataFresherThanSnapshot_readFromData() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        createStorage(filePath).saveAddressBook(original);
+
+        // the data is changed without the snapshot, e.g. by hand
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        setOlder(BinaryAddressBookStorage.getSnapshotFilePath(filePath), filePath);
+        ReadOnlyAddressBook readBack = createStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_journalAppended_snapshotWrittenOnFlush() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path snapshotPath = BinaryAddressBookStorage.getSnapshotFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = createStorage(filePath);
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(snapshotPath);
+
+        // the change is only appended to the journal
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertArrayEquals(snapshot, Files.readAllBytes(snapshotPath));
+
+        storage.flushAddressBook(original);
+        assertFalse(Arrays.equals(snapshot, Files.readAllBytes(snapshotPath)));
+    }
+
+    @Test
+    public void readAddressBook_journalAfterSnapshot_replayedOntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage savingStorage = createStorage(filePath);
+        savingStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        savingStorage.saveAddressBook(original);
+
+        // the data cannot be read, so the snapshot is read, and the journal replayed onto it
+        Files.writeString(filePath, "not json format!");
+        setOlder(filePath, BinaryAddressBookStorage.getSnapshotFilePath(filePath));
+        BinaryAddressBookStorage storage = createStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // later saves append to the journal, rather than rewrite the data
+        readBack.addPerson(IDA);
+        storage.saveAddressBook(readBack);
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertEquals(readBack, new AddressBook(createStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidSnapshot_readFromData() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = createStorage(filePath);
+        storage.saveAddressBook(original);
+
+        // not a snapshot
+        Path snapshotPath = BinaryAddressBookStorage.getSnapshotFilePath(filePath);
+        Files.writeString(snapshotPath, "not a snapshot!");
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // truncated snapshot
+        storage.flushAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(snapshotPath);
+        Files.write(snapshotPath, Arrays.copyOf(snapshot, snapshot.length / 2));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // unsupported version
+        snapshot[7]++;
+        Files.write(snapshotPath, snapshot);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // both invalid -> throws
+        Files.writeString(filePath, "not json format!");
+        setOlder(filePath, snapshotPath);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    private BinaryAddressBookStorage createStorage(Path filePath) {
+        return new BinaryAddressBookStorage(new JournalAddressBookStorage(filePath));
+    }
+
+    /**
+     * Sets the last modified time of {@code olderPath} to a minute before that of {@code newerPath}.
+     */
+    private static void setOlder(Path olderPath, Path newerPath) throws Exception {
+        long newerMillis = Files.getLastModifiedTime(newerPath).toMillis();
+        Files.setLastModifiedTime(olderPath, FileTime.fromMillis(newerMillis - 60_000));
+    }
+}
@@ -0,0 +1,197 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagRegistry;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("addressBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, append the changes to the journal, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withTags().build());
+        storage.saveAddressBook(original, filePath);
+        readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+
+        // Saving without changes does not write to the journal
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        byte[] journal = Files.readAllBytes(journalPath);
+        storage.saveAddressBook(original);
+        assertArrayEquals(journal, Files.readAllBytes(journalPath));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_renamedTags_success() throws Exception {
+        Path filePath = testFolder.resolve("Renamed.json");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withName("First").withTags("journalFirst").build());
+        original.addPerson(new PersonBuilder().withName("Second").withTags("journalSecond").build());
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        TagRegistry registry = original.getTagRegistry();
+        int firstId = registry.findId("journalFirst");
+        int secondId = registry.findId("journalSecond");
+        // the second tag takes the old name of the first
+        registry.rename(firstId, "journalThird");
+        registry.rename(secondId, "journalFirst");
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotTakenBeforeRename_savesOldName() throws Exception {
+        Path filePath = testFolder.resolve("SnapshotRenamed.json");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withName("First").withTags("journalBefore").build());
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original.snapshot());
+        original.addPerson(new PersonBuilder().withName("Second").withTags("journalBefore").build());
+        AddressBookSnapshot beforeRename = original.snapshot();
+
+        TagRegistry registry = original.getTagRegistry();
+        int id = registry.findId("journalBefore");
+        // the snapshot is only saved after the rename, as by a save in the background
+        registry.rename(id, "journalAfter");
+        storage.saveAddressBook(beforeRename);
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(2, readBack.getPersonList().size());
+        assertTrue(readBack.getPersonList().stream().allMatch(person -> person.hasTag("journalBefore")));
+
+        storage.saveAddressBook(original.snapshot());
+        readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertTrue(readBack.getPersonList().stream().allMatch(person -> person.hasTag("journalAfter")));
+    }
+
+    @Test
+    public void saveAddressBook_mostPersonsChanged_rewritesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("Reordered.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        List<Person> reversed = new ArrayList<>(original.getPersonList());
+        Collections.reverse(reversed);
+        original.setPersons(reversed);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertFalse(Files.exists(FileUtil.getTemporaryFile(filePath)));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void read_incompleteLastLine_ignored() throws Exception {
+        Path filePath = testFolder.resolve("Incomplete.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // a save cut short while appending to the journal
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        Files.writeString(journalPath, "[{\"op\":\"delete\",\"ind", StandardOpenOption.APPEND);
+        JournalAddressBookStorage recoveredStorage = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(recoveredStorage.readAddressBook().get()));
+
+        // the next save does not append after the incomplete line
+        original.addPerson(IDA);
+        recoveredStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void read_journalOfOtherSnapshot_ignored() throws Exception {
+        Path filePath = testFolder.resolve("Replaced.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // the snapshot is replaced without its journal
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void read_invalidRecord_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("Invalid.json");
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.writeString(JournalAddressBookStorage.getJournalFilePath(filePath),
+                "[{\"op\":\"delete\",\"index\":99}]\n", StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("addressBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
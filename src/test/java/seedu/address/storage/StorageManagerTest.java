@@ -1,9 +1,11 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -60,6 +62,24 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unchangedVersion_skipped() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        // the same version is not written again
+        storageManager.saveAddressBook(original.snapshot());
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+        assertEquals(1, storageManager.getSkippedSaveCount());
+
+        // a changed version is written
+        original.removePerson(original.getPersonList().get(0));
+        storageManager.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+        assertEquals(1, storageManager.getSkippedSaveCount());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -149,8 +149,6 @@ public class PersonBuilder {
      * @return Person
      */
     public Person build() {
-        Person p = new Person(name, phone, email, address, schedule, socialMedia, tags);
-        p.setSocialMedia(socialMedia);
-        return p;
+        return new Person(name, phone, email, address, schedule, socialMedia, tags);
     }
 }